@@ -0,0 +1,69 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.model.User;
+import com.wishlist.backend.model.Wishlist;
+import com.wishlist.backend.model.WishlistItem;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Constructor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds detached entities and services wired to Mockito mocks, so benchmarks run without a database.
+ */
+final class BenchmarkFixtures {
+
+    private static final String DESCRIPTION = "Size M, color blue, the one with the long sleeves and the pocket on the left side";
+    private static final String SHOP_LINK = "https://shop.example.com/products/holiday-gift-item?variant=1234567890&ref=wishlist";
+
+    private BenchmarkFixtures() {}
+
+    static List<Wishlist> wishlists(int count, int itemsPerWishlist) {
+        User.UserCategory[] categories = User.UserCategory.values();
+        LocalDateTime now = LocalDateTime.of(2025, 12, 1, 9, 30);
+        List<Wishlist> wishlists = new ArrayList<>(count);
+        long itemId = 1;
+        for (int i = 0; i < count; i++) {
+            Wishlist wishlist = new Wishlist();
+            wishlist.setId((long) i + 1);
+            wishlist.setOwnerName("Family Member " + i);
+            wishlist.setUniqueSlug("family-member-" + i + "-a1b2c3");
+            wishlist.setNote("Anything from the list is fine, thank you!");
+            wishlist.setCategory(categories[i % categories.length]);
+            wishlist.setCreatedAt(now.minusDays(i % 30));
+            wishlist.setUpdatedAt(now);
+            for (int j = 0; j < itemsPerWishlist; j++) {
+                WishlistItem item = new WishlistItem();
+                item.setId(itemId++);
+                item.setItemName("Gift idea " + j);
+                item.setDescription(DESCRIPTION);
+                item.setShopLink(SHOP_LINK);
+                item.setWishlist(wishlist);
+                item.setCreatedAt(now);
+                wishlist.getItems().add(item);
+            }
+            wishlists.add(wishlist);
+        }
+        return wishlists;
+    }
+
+    /**
+     * Instantiates a service through its constructor with every collaborator mocked.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T serviceWithMocks(Class<T> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructors()[0];
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            Object[] args = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                args[i] = Mockito.mock(parameterTypes[i]);
+            }
+            return (T) constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot build " + type.getSimpleName() + " for benchmarking", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.dto.ItemDTO;
+import com.wishlist.backend.dto.WishlistDTO;
+import com.wishlist.backend.model.Wishlist;
+import com.wishlist.backend.model.WishlistItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping cost for a full home-page listing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    // wishlists x items per wishlist; 100000 x 200 (20M items) does not fit in the heap, so the largest runs are capped
+    @Param({"10x0", "10x20", "10x200", "1000x0", "1000x20", "1000x200", "100000x0", "100000x20"})
+    private String shape;
+
+    private int wishlists;
+    private int itemsPerWishlist;
+
+    private List<Wishlist> fixtures;
+    private WishlistService wishlistService;
+    private ItemService itemService;
+
+    @Setup
+    public void setUp() {
+        String[] parts = shape.split("x");
+        wishlists = Integer.parseInt(parts[0]);
+        itemsPerWishlist = Integer.parseInt(parts[1]);
+        fixtures = BenchmarkFixtures.wishlists(wishlists, itemsPerWishlist);
+        wishlistService = BenchmarkFixtures.serviceWithMocks(WishlistService.class);
+        itemService = BenchmarkFixtures.serviceWithMocks(ItemService.class);
+    }
+
+    @Benchmark
+    public List<WishlistDTO> wishlistConvertToDTO() {
+        List<WishlistDTO> result = new ArrayList<>(fixtures.size());
+        for (Wishlist wishlist : fixtures) {
+            result.add(wishlistService.convertToDTO(wishlist));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ItemDTO> itemConvertToDTO() {
+        List<ItemDTO> result = new ArrayList<>(fixtures.size() * itemsPerWishlist);
+        for (Wishlist wishlist : fixtures) {
+            for (WishlistItem item : wishlist.getItems()) {
+                result.add(itemService.convertToDTO(item));
+            }
+        }
+        return result;
+    }
+}
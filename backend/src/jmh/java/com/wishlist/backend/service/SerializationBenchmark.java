@@ -0,0 +1,60 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.dto.DtoSerializers;
+import com.wishlist.backend.dto.WishlistDTO;
+import com.wishlist.backend.model.Wishlist;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the List&lt;WishlistDTO&gt; payload returned by GET /api/wishlists, through bean
+ * introspection and through {@link DtoSerializers}. Run with the profile's -prof gc to compare
+ * gc.alloc.rate.norm (bytes allocated per serialized list) alongside the timings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    // wishlists x items per wishlist; 100000 x 200 (20M items) does not fit in the heap, so the largest runs are capped
+    @Param({"10x0", "10x20", "10x200", "1000x0", "1000x20", "1000x200", "100000x0", "100000x20"})
+    private String shape;
+
+    private int wishlists;
+    private int itemsPerWishlist;
+
+    private List<WishlistDTO> payload;
+    private JsonMapper mapper;
+    private JsonMapper dtoSerializersMapper;
+
+    @Setup
+    public void setUp() {
+        String[] parts = shape.split("x");
+        wishlists = Integer.parseInt(parts[0]);
+        itemsPerWishlist = Integer.parseInt(parts[1]);
+        WishlistService wishlistService = BenchmarkFixtures.serviceWithMocks(WishlistService.class);
+        payload = new ArrayList<>(wishlists);
+        for (Wishlist wishlist : BenchmarkFixtures.wishlists(wishlists, itemsPerWishlist)) {
+            payload.add(wishlistService.convertToDTO(wishlist));
+        }
+        mapper = JsonMapper.builder().build();
+        dtoSerializersMapper = JsonMapper.builder().addModule(DtoSerializers.module()).build();
+    }
+
+    @Benchmark
+    public byte[] serializeWishlists() {
+        return mapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] serializeWishlistsWithDtoSerializers() {
+        return dtoSerializersMapper.writeValueAsBytes(payload);
+    }
+}
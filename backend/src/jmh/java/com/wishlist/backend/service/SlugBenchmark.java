@@ -0,0 +1,32 @@
+package com.wishlist.backend.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slug generation for new wishlists: name normalization plus a node-unique id, no database involved.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlugBenchmark {
+
+    @Param({"Maria", "Juan Dela Cruz Jr.", "José Ñuñez"})
+    private String ownerName;
+
+    private SlugGenerator slugGenerator;
+
+    @Setup
+    public void setUp() {
+        slugGenerator = new SlugGenerator(1);
+    }
+
+    @Benchmark
+    public String generate() {
+        return slugGenerator.generate(ownerName);
+    }
+}
@@ -0,0 +1,126 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.model.User;
+import com.wishlist.backend.model.Wishlist;
+import com.wishlist.backend.model.WishlistItem;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation latency of a wishlist with 50 items through Hibernate against an in-memory H2 database in MySQL mode.
+ * {@code identity} is the baseline without pooled ids: Wishlist and WishlistItem both use IDENTITY and JDBC
+ * batching is off, so every row is its own INSERT. {@code pooled} uses the current mapping and settings.
+ * H2 has no network round trip, so the gap on a real MySQL server is larger than measured here; the JDBC
+ * statements per wishlist, reported as the {@code statements} and {@code wishlists} counters, are the figure
+ * that carries over. The schema is recreated per iteration so table growth does not skew later iterations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WishlistCreationBenchmark {
+
+    private static final String IDENTITY_IDS = """
+            <entity-mappings xmlns="https://jakarta.ee/xml/ns/persistence/orm" version="3.2">
+                <entity class="com.wishlist.backend.model.Wishlist">
+                    <attributes>
+                        <id name="id">
+                            <generated-value strategy="IDENTITY"/>
+                        </id>
+                    </attributes>
+                </entity>
+                <entity class="com.wishlist.backend.model.WishlistItem">
+                    <attributes>
+                        <id name="id">
+                            <generated-value strategy="IDENTITY"/>
+                        </id>
+                    </attributes>
+                </entity>
+            </entity-mappings>
+            """;
+
+    @Param({"identity", "pooled"})
+    private String ids;
+
+    @Param({"50"})
+    private int items;
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private long sequence;
+
+    /**
+     * JDBC statements prepared and wishlists created, summed per iteration; their ratio is statements per wishlist.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Statements {
+        public long statements;
+        public long wishlists;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            wishlists = 0;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        boolean pooled = "pooled".equals(ids);
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:creation-" + ids + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.MySQLDialect")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, pooled ? 50 : 0)
+                .applySetting(AvailableSettings.ORDER_INSERTS, pooled)
+                .applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+                .build();
+        MetadataSources sources = new MetadataSources(registry)
+                .addAnnotatedClasses(Wishlist.class, WishlistItem.class);
+        if (!pooled) {
+            sources.addInputStream(new ByteArrayInputStream(IDENTITY_IDS.getBytes(StandardCharsets.UTF_8)));
+        }
+        sessionFactory = sources.buildMetadata().buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public Long createWishlist(Statements counters) {
+        Wishlist wishlist = new Wishlist();
+        long n = sequence++;
+        wishlist.setOwnerName("Family Member " + n);
+        wishlist.setUniqueSlug("family-member-" + n);
+        wishlist.setCategory(User.UserCategory.values()[(int) (n % User.UserCategory.values().length)]);
+        for (int i = 0; i < items; i++) {
+            WishlistItem item = new WishlistItem();
+            item.setItemName("Gift idea " + i);
+            item.setWishlist(wishlist);
+            wishlist.getItems().add(item);
+        }
+        long before = sessionFactory.getStatistics().getPrepareStatementCount();
+        sessionFactory.inTransaction(session -> session.persist(wishlist));
+        counters.statements += sessionFactory.getStatistics().getPrepareStatementCount() - before;
+        counters.wishlists++;
+        return wishlist.getId();
+    }
+}
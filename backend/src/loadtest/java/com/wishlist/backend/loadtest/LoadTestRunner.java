@@ -0,0 +1,271 @@
+package com.wishlist.backend.loadtest;
+
+import com.wishlist.backend.WishlistApplication;
+import com.wishlist.backend.model.User;
+import com.wishlist.backend.model.Wishlist;
+import com.wishlist.backend.model.WishlistItem;
+import com.wishlist.backend.repository.UserRepository;
+import com.wishlist.backend.repository.WishlistRepository;
+import com.wishlist.backend.service.WishlistHomeSnapshot;
+import com.wishlist.backend.service.WishlistSearchIndex;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Boots the application against an in-memory H2 database, seeds users, wishlists and items,
+ * then drives concurrent traffic and prints latency percentiles, throughput and error rates per endpoint.
+ *
+ * Tuned through system properties: loadtest.users, loadtest.wishlists, loadtest.items,
+ * loadtest.threads, loadtest.warmupSeconds, loadtest.durationSeconds. Set loadtest.virtualThreads=true to run the
+ * server in virtual-thread mode with database admission control; client workers always run on virtual threads.
+ */
+public class LoadTestRunner {
+
+    private static final String USER_PASSWORD = "loadtest";
+
+    private final int users = Integer.getInteger("loadtest.users", 200);
+    private final int wishlists = Integer.getInteger("loadtest.wishlists", 500);
+    private final int itemsPerWishlist = Integer.getInteger("loadtest.items", 10);
+    private final int threads = Integer.getInteger("loadtest.threads", 32);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 5);
+    private final int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 30);
+    private final boolean virtualThreads = Boolean.getBoolean("loadtest.virtualThreads");
+
+    private final AtomicLong registrations = new AtomicLong();
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private String baseUrl;
+    private String authorization;
+    private List<String> slugs;
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner().run();
+    }
+
+    private void run() throws Exception {
+        ConfigurableApplicationContext context = SpringApplication.run(WishlistApplication.class, applicationArgs());
+        try {
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+            authorization = "Bearer " + login(context);
+            seed(context);
+
+            System.out.printf("Seeded %d users, %d wishlists x %d items; %d client threads; server on %s threads%n",
+                    users, wishlists, itemsPerWishlist, threads, virtualThreads ? "virtual" : "platform");
+            drive(warmupSeconds);
+            Map<String, List<Long>> results = drive(durationSeconds);
+            report(results);
+        } finally {
+            context.close();
+        }
+    }
+
+    private String[] applicationArgs() {
+        return new String[] {
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=VALUE;IGNORE_UNKNOWN_SETTINGS=TRUE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--spring.flyway.enabled=false",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--app.datasource.admission.enabled=" + virtualThreads,
+                "--USER_PASSWORD=" + USER_PASSWORD,
+                "--ADMIN_PASSWORD=" + USER_PASSWORD + "-admin",
+                "--logging.level.root=WARN"
+        };
+    }
+
+    // One token for all workers, as a browser would reuse its own
+    private String login(ConfigurableApplicationContext context) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"user\",\"password\":\"" + USER_PASSWORD + "\"}"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode());
+        }
+        return context.getBean(JsonMapper.class).readTree(response.body()).get("token").asString();
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        WishlistRepository wishlistRepository = context.getBean(WishlistRepository.class);
+        User.UserCategory[] categories = User.UserCategory.values();
+
+        List<User> seededUsers = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            User user = new User();
+            user.setFullName("Seed User " + i);
+            user.setCategory(categories[i % categories.length]);
+            seededUsers.add(user);
+        }
+        userRepository.saveAll(seededUsers);
+
+        slugs = new ArrayList<>();
+        List<Wishlist> batch = new ArrayList<>();
+        for (int i = 0; i < wishlists; i++) {
+            Wishlist wishlist = new Wishlist();
+            wishlist.setOwnerName("Seed User " + (i % Math.max(users, 1)));
+            wishlist.setUniqueSlug("seed-" + i);
+            wishlist.setNote("Seeded wishlist " + i);
+            wishlist.setCategory(categories[i % categories.length]);
+            for (int j = 0; j < itemsPerWishlist; j++) {
+                WishlistItem item = new WishlistItem();
+                item.setItemName("Gift " + j);
+                item.setDescription("Seeded gift description " + j);
+                item.setShopLink("https://shop.example.com/item/" + j);
+                item.setWishlist(wishlist);
+                wishlist.getItems().add(item);
+            }
+            batch.add(wishlist);
+            slugs.add(wishlist.getUniqueSlug());
+            if (batch.size() == 100) {
+                wishlistRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        wishlistRepository.saveAll(batch);
+
+        // The repositories publish no change events, so the in-memory views built at startup are rebuilt here
+        context.getBean(WishlistHomeSnapshot.class).rebuild();
+        context.getBean(WishlistSearchIndex.class).rebuild();
+    }
+
+    private Map<String, List<Long>> drive(int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<Map<String, List<Long>>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> worker(deadline)));
+            }
+
+            Map<String, List<Long>> merged = new TreeMap<>();
+            for (Future<Map<String, List<Long>>> future : futures) {
+                future.get().forEach((endpoint, samples) ->
+                        merged.computeIfAbsent(endpoint, k -> new ArrayList<>()).addAll(samples));
+            }
+            return merged;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Samples are latencies in nanoseconds; failed requests are recorded as negative values.
+     */
+    private Map<String, List<Long>> worker(long deadline) {
+        Map<String, List<Long>> samples = new HashMap<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            String slug = slugs.get(random.nextInt(slugs.size()));
+            int roll = random.nextInt(100);
+            if (roll < 55) {
+                call(samples, "GET /wishlists/{slug}", get("/wishlists/" + slug));
+            } else if (roll < 65) {
+                call(samples, "GET /wishlists", get("/wishlists"));
+            } else if (roll < 75) {
+                call(samples, "GET /wishlists?view=summary", get("/wishlists?view=summary"));
+            } else if (roll < 90) {
+                call(samples, "POST /wishlists/{slug}/items", post("/wishlists/" + slug + "/items",
+                        "{\"itemName\":\"Load test gift\",\"description\":\"added under load\"}"));
+            } else if (roll < 95) {
+                call(samples, "PUT /wishlists/{slug}", put("/wishlists/" + slug,
+                        "{\"note\":\"updated " + random.nextInt(1000) + "\"}"));
+            } else {
+                call(samples, "POST /users/register", post("/users/register",
+                        "{\"fullName\":\"Load User " + registrations.incrementAndGet() + "-" + Thread.currentThread().threadId()
+                                + "\",\"category\":\"ADULT\"}"));
+            }
+        }
+        return samples;
+    }
+
+    private void call(Map<String, List<Long>> samples, String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        boolean ok;
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            ok = response.statusCode() < 400;
+        } catch (Exception e) {
+            ok = false;
+        }
+        long elapsed = Math.max(System.nanoTime() - start, 1);
+        samples.computeIfAbsent(endpoint, k -> new ArrayList<>()).add(ok ? elapsed : -elapsed);
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest put(String path, String json) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", authorization);
+    }
+
+    private void report(Map<String, List<Long>> results) {
+        System.out.printf("%n%-32s %9s %8s %10s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        results.forEach((endpoint, samples) -> {
+            long[] latencies = samples.stream().mapToLong(Math::abs).sorted().toArray();
+            long errors = samples.stream().filter(sample -> sample < 0).count();
+            System.out.printf("%-32s %9d %7.2f%% %10.1f %9.2f %9.2f %9.2f%n",
+                    endpoint,
+                    latencies.length,
+                    100.0 * errors / latencies.length,
+                    (double) latencies.length / durationSeconds,
+                    percentile(latencies, 50),
+                    percentile(latencies, 95),
+                    percentile(latencies, 99));
+        });
+        long total = results.values().stream().mapToLong(List::size).sum();
+        System.out.printf("%-32s %9d %8s %10.1f%n", "total", total, "", (double) total / durationSeconds);
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.wishlist.backend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Puts the application DataSource behind {@link AdmissionControlDataSource} when
+ * {@code app.datasource.admission.enabled} is set, which defaults to on in virtual-thread mode.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.datasource.admission.enabled", havingValue = "true")
+public class AdmissionControlDataSourcePostProcessor implements BeanPostProcessor, SmartInitializingSingleton {
+
+    private final int maxConcurrent;
+    private final Duration timeout;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private AdmissionControlDataSource admissionControl;
+
+    public AdmissionControlDataSourcePostProcessor(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxConcurrent,
+            @Value("${app.datasource.admission.timeout:60s}") Duration timeout,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.maxConcurrent = maxConcurrent;
+        this.timeout = timeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof AdmissionControlDataSource) && admissionControl == null) {
+            admissionControl = new AdmissionControlDataSource(dataSource, maxConcurrent, timeout);
+            log.info("Database admission control enabled: {} concurrent connections, {} wait timeout", maxConcurrent, timeout);
+            return admissionControl;
+        }
+        return bean;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null || admissionControl == null) {
+            return;
+        }
+        Gauge.builder("app.datasource.admission.waiting", admissionControl, AdmissionControlDataSource::getQueueLength)
+                .description("Threads waiting for a database connection permit")
+                .register(registry);
+        Gauge.builder("app.datasource.admission.available", admissionControl, AdmissionControlDataSource::getAvailablePermits)
+                .description("Free database connection permits")
+                .register(registry);
+    }
+}
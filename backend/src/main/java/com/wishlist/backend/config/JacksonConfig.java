@@ -0,0 +1,19 @@
+package com.wishlist.backend.config;
+
+import com.wishlist.backend.dto.DtoSerializers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.JacksonModule;
+
+/**
+ * Registers the hand-written DTO serializers with the auto-configured JsonMapper, which every
+ * controller, the response cache and the export stream share.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public JacksonModule dtoSerializersModule() {
+        return DtoSerializers.module();
+    }
+}
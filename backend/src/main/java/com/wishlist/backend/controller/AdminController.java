@@ -10,18 +10,35 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.CacheControl;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
+import com.wishlist.backend.dto.CursorPageDTO;
+import com.wishlist.backend.dto.ImportResultDTO;
+import com.wishlist.backend.dto.PageDTO;
 import com.wishlist.backend.dto.UserDTO;
 import com.wishlist.backend.dto.WishlistDTO;
 import com.wishlist.backend.dto.RegisterUserRequest;
 import com.wishlist.backend.dto.UpdateUserRequest;
 import com.wishlist.backend.dto.CreateWishlistRequest;
 import com.wishlist.backend.dto.UpdateWishlistRequest;
+import com.wishlist.backend.monitoring.SecondLevelCacheStats;
+import com.wishlist.backend.service.ImportService;
 import com.wishlist.backend.service.UserService;
+import com.wishlist.backend.service.Versioned;
+import com.wishlist.backend.service.WishlistExportService;
 import com.wishlist.backend.service.WishlistService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -30,6 +47,9 @@ public class AdminController {
 
     private final UserService userService;
     private final WishlistService wishlistService;
+    private final WishlistExportService exportService;
+    private final ImportService importService;
+    private final SecondLevelCacheStats secondLevelCacheStats;
 
     // CRUD Users
     @GetMapping("/users")
@@ -37,6 +57,27 @@ public class AdminController {
         return ResponseEntity.ok(userService.getAllUsers());
     }
 
+    @GetMapping(value = "/users", params = {"page", "!cursor"})
+    public ResponseEntity<PageDTO<UserDTO>> getUsersPage(
+            @RequestParam int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        return ResponseEntity.ok(userService.getUsersPage(page, size, sort));
+    }
+
+    @GetMapping(value = "/users", params = {"cursor", "!page"})
+    public ResponseEntity<CursorPageDTO<UserDTO>> getUsersAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.getUsersAfter(cursor, size));
+    }
+
+    // Offset and keyset paging cannot be combined; answer 400 instead of an ambiguous mapping
+    @GetMapping(value = "/users", params = {"page", "cursor"})
+    public ResponseEntity<Void> rejectUsersPageAndCursor() {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Use either page or cursor, not both");
+    }
+
     @PostMapping("/users")
     public ResponseEntity<UserDTO> createUser(@RequestBody RegisterUserRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -58,8 +99,38 @@ public class AdminController {
 
     // CRUD Notes/Wishlists
     @GetMapping("/wishlists")
-    public ResponseEntity<List<WishlistDTO>> getAllWishlists() {
-        return ResponseEntity.ok(wishlistService.getAllWishlists());
+    public ResponseEntity<List<WishlistDTO>> getAllWishlists(WebRequest webRequest) {
+        String etag = wishlistService.getCollectionETag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        // The ETag sent is the one the body was read at, which may be older than the one just checked
+        Versioned<List<WishlistDTO>> wishlists = wishlistService.getAllWishlists();
+        return ResponseEntity.ok()
+                .eTag(wishlists.getETag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(wishlists.getBody());
+    }
+
+    @GetMapping(value = "/wishlists", params = {"page", "!cursor"})
+    public ResponseEntity<PageDTO<WishlistDTO>> getWishlistsPage(
+            @RequestParam int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        return ResponseEntity.ok(wishlistService.getWishlistsPage(page, size, sort));
+    }
+
+    @GetMapping(value = "/wishlists", params = {"cursor", "!page"})
+    public ResponseEntity<CursorPageDTO<WishlistDTO>> getWishlistsAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(wishlistService.getWishlistsAfter(cursor, size));
+    }
+
+    // Offset and keyset paging cannot be combined; answer 400 instead of an ambiguous mapping
+    @GetMapping(value = "/wishlists", params = {"page", "cursor"})
+    public ResponseEntity<Void> rejectWishlistsPageAndCursor() {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Use either page or cursor, not both");
     }
 
     @PostMapping("/wishlists")
@@ -79,8 +150,51 @@ public class AdminController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportWishlists(@RequestParam(defaultValue = "ndjson") String format) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            throw new RuntimeException("Unsupported export format: " + format);
+        }
+        StreamingResponseBody body = csv ? exportService::exportCsv : exportService::exportNdjson;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"wishlists." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
+    // Body is text/csv with a header row, or application/x-ndjson with one object per line
+    @PostMapping("/import/users")
+    public ResponseEntity<ImportResultDTO> importUsers(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, defaultValue = "application/x-ndjson") String contentType,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(importService.importUsers(body, isCsv(contentType)));
+    }
+
+    @PostMapping("/import/wishlists")
+    public ResponseEntity<ImportResultDTO> importWishlists(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, defaultValue = "application/x-ndjson") String contentType,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(importService.importWishlists(body, isCsv(contentType)));
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(wishlistService.getCacheStats());
+    }
+
+    @GetMapping("/cache/stats/second-level")
+    public ResponseEntity<Map<String, Object>> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(secondLevelCacheStats.snapshot());
+    }
+
     @PostMapping("/header")
     public ResponseEntity<String> updateHeader(@RequestParam String headerName) {
         return ResponseEntity.ok("Header updated to: " + headerName);
     }
+
+    private static boolean isCsv(String contentType) {
+        return contentType.toLowerCase().startsWith("text/csv");
+    }
 }
\ No newline at end of file
@@ -1,24 +1,42 @@
 package com.wishlist.backend.controller;
 
-import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.PostMapping;
+import com.wishlist.backend.dto.AuthTokenDTO;
+import com.wishlist.backend.dto.LoginRequest;
+import com.wishlist.backend.service.AuthTokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import javax.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/auth")
+@RequiredArgsConstructor
 public class AuthController {
 
+    private final AuthenticationManager authenticationManager;
+    private final AuthTokenService tokenService;
+
     @PostMapping("/login")
-    public ResponseEntity<String> login() {
-        // session is handled automatically by Spring Security
-        return ResponseEntity.ok("Login successful");
+    public ResponseEntity<AuthTokenDTO> login(@RequestBody LoginRequest request) {
+        try {
+            Authentication authentication = authenticationManager.authenticate(
+                    UsernamePasswordAuthenticationToken.unauthenticated(request.getUsername(), request.getPassword()));
+            return ResponseEntity.ok(tokenService.issue(authentication));
+        } catch (AuthenticationException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(HttpServletRequest request) {
-        request.getSession().invalidate();
+    public ResponseEntity<String> logout() {
+        // Tokens are stateless; the client drops its copy and it expires on its own
         return ResponseEntity.ok("Logged out successfully");
     }
 }
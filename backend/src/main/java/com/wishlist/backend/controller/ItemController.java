@@ -1,5 +1,6 @@
 package com.wishlist.backend.controller;
 
+import com.wishlist.backend.dto.BulkItemRequest;
 import com.wishlist.backend.dto.ItemDTO;
 import com.wishlist.backend.service.ItemService;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +8,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
@@ -22,6 +25,13 @@ public class ItemController {
                 .body(itemService.addItemToWishlist(slug, itemDTO));
     }
     
+    @PostMapping("/wishlists/{slug}/items/batch")
+    public ResponseEntity<List<ItemDTO>> applyItemOperations(
+            @PathVariable String slug,
+            @RequestBody BulkItemRequest request) {
+        return ResponseEntity.ok(itemService.applyItemOperations(slug, request));
+    }
+    
     @PutMapping("/items/{id}")
     public ResponseEntity<ItemDTO> updateItem(
             @PathVariable Long id,
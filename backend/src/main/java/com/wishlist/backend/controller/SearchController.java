@@ -0,0 +1,25 @@
+package com.wishlist.backend.controller;
+
+import com.wishlist.backend.dto.WishlistSearchResultDTO;
+import com.wishlist.backend.service.WishlistSearchIndex;
+import com.wishlist.backend.service.WishlistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final WishlistService wishlistService;
+
+    @GetMapping
+    public ResponseEntity<List<WishlistSearchResultDTO>> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "" + WishlistSearchIndex.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(wishlistService.search(query, limit));
+    }
+}
@@ -2,9 +2,12 @@ package com.wishlist.backend.controller;
 
 import com.wishlist.backend.model.SiteSetting;
 import com.wishlist.backend.repository.SiteSettingRepository;
+import com.wishlist.backend.service.ETags;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
 
@@ -17,11 +20,18 @@ public class SiteSettingController {
     private static final String HEADER_KEY = "header_title";
 
     @GetMapping("/header")
-    public ResponseEntity<Map<String, String>> getHeaderTitle() {
+    public ResponseEntity<Map<String, String>> getHeaderTitle(WebRequest webRequest) {
         SiteSetting setting = repository.findById(HEADER_KEY)
                 .orElse(new SiteSetting(HEADER_KEY, "Malagapo Christmas Wishlist"));
         
-        return ResponseEntity.ok(Map.of("value", setting.getValue()));
+        String etag = ETags.forContent(setting.getValue());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(Map.of("value", setting.getValue()));
     }
 
     @PutMapping("/header")
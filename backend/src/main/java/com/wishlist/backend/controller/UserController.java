@@ -1,5 +1,7 @@
 package com.wishlist.backend.controller;
 
+import com.wishlist.backend.dto.CursorPageDTO;
+import com.wishlist.backend.dto.PageDTO;
 import com.wishlist.backend.dto.RegisterUserRequest;
 import com.wishlist.backend.dto.UpdateUserRequest;
 import com.wishlist.backend.dto.UserDTO;
@@ -9,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -24,6 +27,27 @@ public class UserController {
         return ResponseEntity.ok(userService.getAllUsers());
     }
     
+    @GetMapping(params = {"page", "!cursor"})
+    public ResponseEntity<PageDTO<UserDTO>> getUsersPage(
+            @RequestParam int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        return ResponseEntity.ok(userService.getUsersPage(page, size, sort));
+    }
+    
+    @GetMapping(params = {"cursor", "!page"})
+    public ResponseEntity<CursorPageDTO<UserDTO>> getUsersAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.getUsersAfter(cursor, size));
+    }
+    
+    // Offset and keyset paging cannot be combined; answer 400 instead of an ambiguous mapping
+    @GetMapping(params = {"page", "cursor"})
+    public ResponseEntity<Void> rejectUsersPageAndCursor() {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Use either page or cursor, not both");
+    }
+    
     @GetMapping("/category/{category}")
     public ResponseEntity<List<UserDTO>> getUsersByCategory(@PathVariable User.UserCategory category) {
         return ResponseEntity.ok(userService.getUsersByCategory(category));
@@ -1,16 +1,30 @@
 package com.wishlist.backend.controller;
 
 import com.wishlist.backend.dto.CreateWishlistRequest;
+import com.wishlist.backend.dto.CursorPageDTO;
+import com.wishlist.backend.dto.PageDTO;
 import com.wishlist.backend.dto.UpdateWishlistRequest;
 import com.wishlist.backend.dto.WishlistDTO;
+import com.wishlist.backend.dto.WishlistSummaryDTO;
 import com.wishlist.backend.model.User;
+import com.wishlist.backend.service.ETags;
+import com.wishlist.backend.service.ResponseBytesCache;
+import com.wishlist.backend.service.Versioned;
+import com.wishlist.backend.service.WishlistEventBroadcaster;
+import com.wishlist.backend.service.WishlistHomeSnapshot;
 import com.wishlist.backend.service.WishlistService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 import org.springframework.security.core.Authentication;
 
 @RestController
@@ -19,15 +33,123 @@ import org.springframework.security.core.Authentication;
 public class WishlistController {
 
     private final WishlistService wishlistService;
+    private final WishlistEventBroadcaster eventBroadcaster;
+    private final ResponseBytesCache responseCache;
 
     @GetMapping("/wishlists")
-    public ResponseEntity<List<WishlistDTO>> getAllWishlists(Authentication auth) {
-        return ResponseEntity.ok(wishlistService.getAllWishlists());
+    public ResponseEntity<byte[]> getAllWishlists(
+            Authentication auth,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        // Answer repeat requests from the cheap version lookup before loading anything
+        String etag = wishlistService.getCollectionETag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return responseCache.respond(ResponseBytesCache.ALL_WISHLISTS, etag, acceptEncoding,
+                wishlistService::getAllWishlists);
+    }
+
+    @GetMapping(value = "/wishlists", params = {"page", "!cursor"})
+    public ResponseEntity<PageDTO<WishlistDTO>> getWishlistsPage(
+            @RequestParam int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        return ResponseEntity.ok(wishlistService.getWishlistsPage(page, size, sort));
+    }
+
+    @GetMapping(value = "/wishlists", params = {"cursor", "!page"})
+    public ResponseEntity<CursorPageDTO<WishlistDTO>> getWishlistsAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(wishlistService.getWishlistsAfter(cursor, size));
+    }
+
+    // Offset and keyset paging cannot be combined; answer 400 instead of an ambiguous mapping
+    @GetMapping(value = "/wishlists", params = {"page", "cursor"})
+    public ResponseEntity<Void> rejectWishlistsPageAndCursor() {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Use either page or cursor, not both");
+    }
+
+    // view=summary: owner, slug, category and item count only, for list pages that do not show items
+    @GetMapping(value = "/wishlists", params = {"view=summary", "!page", "!cursor"})
+    public ResponseEntity<byte[]> getAllWishlistSummaries(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        // Body and ETag come from the same snapshot version
+        WishlistHomeSnapshot.Snapshot snapshot = wishlistService.getHomeSnapshot();
+        if (webRequest.checkNotModified(snapshot.getETag())) {
+            return null;
+        }
+        return responseCache.respond(ResponseBytesCache.ALL_SUMMARIES, snapshot.getETag(), acceptEncoding,
+                () -> new Versioned<>(snapshot.getETag(), snapshot.getAll()));
+    }
+
+    @GetMapping("/wishlists/counts")
+    public ResponseEntity<Map<User.UserCategory, Integer>> getWishlistCounts() {
+        return ResponseEntity.ok(wishlistService.getHomeSnapshot().getCounts());
+    }
+
+    @GetMapping("/wishlists/category/{category}")
+    public ResponseEntity<List<WishlistDTO>> getWishlistsByCategory(@PathVariable User.UserCategory category) {
+        return ResponseEntity.ok(wishlistService.getWishlistsByCategory(category));
+    }
+
+    @GetMapping(value = "/wishlists/category/{category}", params = "view=summary")
+    public ResponseEntity<List<WishlistSummaryDTO>> getWishlistSummariesByCategory(
+            @PathVariable User.UserCategory category) {
+        return ResponseEntity.ok(wishlistService.getWishlistSummariesByCategory(category));
+    }
+
+    @GetMapping(value = "/wishlists", params = {"view=summary", "page", "!cursor"})
+    public ResponseEntity<PageDTO<WishlistSummaryDTO>> getWishlistSummariesPage(
+            @RequestParam int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        return ResponseEntity.ok(wishlistService.getWishlistSummariesPage(page, size, sort));
+    }
+
+    @GetMapping(value = "/wishlists", params = {"view=summary", "cursor", "!page"})
+    public ResponseEntity<CursorPageDTO<WishlistSummaryDTO>> getWishlistSummariesAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(wishlistService.getWishlistSummariesAfter(cursor, size));
+    }
+
+    // Live change notifications; clients refetch the affected wishlist or list when one arrives
+    @GetMapping(value = "/wishlists/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAllWishlistEvents() {
+        return eventBroadcaster.subscribeAll();
+    }
+
+    @GetMapping(value = "/wishlists/{slug}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamWishlistEvents(@PathVariable String slug) {
+        return eventBroadcaster.subscribe(slug);
+    }
+
+    @GetMapping("/wishlists/search")
+    public ResponseEntity<List<WishlistDTO>> searchWishlists(@RequestParam String name) {
+        return ResponseEntity.ok(wishlistService.searchWishlistsByName(name));
     }
 
     @GetMapping("/wishlists/{slug}")
-    public ResponseEntity<WishlistDTO> getWishlistBySlug(@PathVariable String slug) {
-        return ResponseEntity.ok(wishlistService.getWishlistBySlug(slug));
+    public ResponseEntity<byte[]> getWishlistBySlug(
+            @PathVariable String slug,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        String etag = wishlistService.getWishlistETag(slug);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        if (etag == null) {
+            // Throws when the wishlist does not exist
+            WishlistDTO wishlist = wishlistService.getWishlistBySlug(slug);
+            etag = ETags.forWishlist(wishlist.getId(), wishlist.getUpdatedAt());
+        }
+        return responseCache.respond(ResponseBytesCache.wishlistKey(slug), etag, acceptEncoding, () -> {
+            WishlistDTO wishlist = wishlistService.getWishlistBySlug(slug);
+            return new Versioned<>(ETags.forWishlist(wishlist.getId(), wishlist.getUpdatedAt()), wishlist);
+        });
     }
 
     @PostMapping("/wishlists")
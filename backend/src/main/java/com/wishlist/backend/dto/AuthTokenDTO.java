@@ -0,0 +1,12 @@
+package com.wishlist.backend.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class AuthTokenDTO {
+    private String token;
+    private String username;
+    private List<String> roles;
+    private String expiresAt;
+}
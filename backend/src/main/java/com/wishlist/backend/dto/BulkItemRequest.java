@@ -0,0 +1,9 @@
+package com.wishlist.backend.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class BulkItemRequest {
+    private List<ItemOperationDTO> operations;
+}
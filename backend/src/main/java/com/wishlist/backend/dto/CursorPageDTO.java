@@ -0,0 +1,10 @@
+package com.wishlist.backend.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class CursorPageDTO<T> {
+    private List<T> content;
+    private String nextCursor;
+}
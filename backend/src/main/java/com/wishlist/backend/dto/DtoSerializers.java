@@ -0,0 +1,156 @@
+package com.wishlist.backend.dto;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.List;
+
+/**
+ * Hand-written serializers for the DTOs on the hot read paths. They write fields directly with pre-encoded
+ * property names instead of going through bean introspection, and produce the same JSON as the default
+ * bean serializer: nulls included, properties in alphabetical order. A field added to one of these DTOs
+ * must be added here as well.
+ */
+public final class DtoSerializers {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString OWNER_NAME = new SerializedString("ownerName");
+    private static final SerializableString UNIQUE_SLUG = new SerializedString("uniqueSlug");
+    private static final SerializableString NOTE = new SerializedString("note");
+    private static final SerializableString CATEGORY = new SerializedString("category");
+    private static final SerializableString ITEMS = new SerializedString("items");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString ITEM_NAME = new SerializedString("itemName");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString SHOP_LINK = new SerializedString("shopLink");
+    private static final SerializableString WISHLIST_ID = new SerializedString("wishlistId");
+    private static final SerializableString ITEM_COUNT = new SerializedString("itemCount");
+    private static final SerializableString FULL_NAME = new SerializedString("fullName");
+
+    private DtoSerializers() {}
+
+    public static JacksonModule module() {
+        ItemSerializer items = new ItemSerializer();
+        return new SimpleModule("DtoSerializers")
+                .addSerializer(WishlistDTO.class, new WishlistSerializer(items))
+                .addSerializer(ItemDTO.class, items)
+                .addSerializer(WishlistSummaryDTO.class, new WishlistSummarySerializer())
+                .addSerializer(UserDTO.class, new UserSerializer());
+    }
+
+    static class WishlistSerializer extends StdSerializer<WishlistDTO> {
+
+        private final ItemSerializer items;
+
+        WishlistSerializer(ItemSerializer items) {
+            super(WishlistDTO.class);
+            this.items = items;
+        }
+
+        @Override
+        public void serialize(WishlistDTO value, JsonGenerator gen, SerializationContext context) {
+            gen.writeStartObject(value, 8);
+            writeString(gen, CATEGORY, value.getCategory() != null ? value.getCategory().name() : null);
+            writeString(gen, CREATED_AT, value.getCreatedAt());
+            writeNumber(gen, ID, value.getId());
+            gen.writeName(ITEMS);
+            List<ItemDTO> itemList = value.getItems();
+            if (itemList == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(itemList, itemList.size());
+                for (ItemDTO item : itemList) {
+                    items.serialize(item, gen, context);
+                }
+                gen.writeEndArray();
+            }
+            writeString(gen, NOTE, value.getNote());
+            writeString(gen, OWNER_NAME, value.getOwnerName());
+            writeString(gen, UNIQUE_SLUG, value.getUniqueSlug());
+            writeString(gen, UPDATED_AT, value.getUpdatedAt());
+            gen.writeEndObject();
+        }
+    }
+
+    static class ItemSerializer extends StdSerializer<ItemDTO> {
+
+        ItemSerializer() {
+            super(ItemDTO.class);
+        }
+
+        @Override
+        public void serialize(ItemDTO value, JsonGenerator gen, SerializationContext context) {
+            if (value == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartObject(value, 5);
+            writeString(gen, DESCRIPTION, value.getDescription());
+            writeNumber(gen, ID, value.getId());
+            writeString(gen, ITEM_NAME, value.getItemName());
+            writeString(gen, SHOP_LINK, value.getShopLink());
+            writeNumber(gen, WISHLIST_ID, value.getWishlistId());
+            gen.writeEndObject();
+        }
+    }
+
+    static class WishlistSummarySerializer extends StdSerializer<WishlistSummaryDTO> {
+
+        WishlistSummarySerializer() {
+            super(WishlistSummaryDTO.class);
+        }
+
+        @Override
+        public void serialize(WishlistSummaryDTO value, JsonGenerator gen, SerializationContext context) {
+            gen.writeStartObject(value, 5);
+            writeString(gen, CATEGORY, value.getCategory() != null ? value.getCategory().name() : null);
+            writeNumber(gen, ID, value.getId());
+            gen.writeName(ITEM_COUNT);
+            gen.writeNumber(value.getItemCount());
+            writeString(gen, OWNER_NAME, value.getOwnerName());
+            writeString(gen, UNIQUE_SLUG, value.getUniqueSlug());
+            gen.writeEndObject();
+        }
+    }
+
+    static class UserSerializer extends StdSerializer<UserDTO> {
+
+        UserSerializer() {
+            super(UserDTO.class);
+        }
+
+        @Override
+        public void serialize(UserDTO value, JsonGenerator gen, SerializationContext context) {
+            gen.writeStartObject(value, 4);
+            writeString(gen, CATEGORY, value.getCategory() != null ? value.getCategory().name() : null);
+            writeString(gen, CREATED_AT, value.getCreatedAt());
+            writeString(gen, FULL_NAME, value.getFullName());
+            writeNumber(gen, ID, value.getId());
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializableString name, Long value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.wishlist.backend.dto;
+
+import lombok.Data;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ImportResultDTO {
+    private int total;
+    private int imported;
+    private int failed;
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    public static class RowError {
+        private final int line;
+        private final String message;
+    }
+}
@@ -0,0 +1,18 @@
+package com.wishlist.backend.dto;
+
+import lombok.Data;
+
+@Data
+public class ItemOperationDTO {
+    private Operation op;
+    private Long id;
+    private String itemName;
+    private String description;
+    private String shopLink;
+
+    public enum Operation {
+        ADD,
+        UPDATE,
+        DELETE
+    }
+}
@@ -0,0 +1,9 @@
+package com.wishlist.backend.dto;
+
+import lombok.Data;
+
+@Data
+public class LoginRequest {
+    private String username;
+    private String password;
+}
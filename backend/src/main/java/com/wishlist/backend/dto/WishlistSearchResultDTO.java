@@ -0,0 +1,16 @@
+package com.wishlist.backend.dto;
+
+import com.wishlist.backend.model.User;
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class WishlistSearchResultDTO {
+    private Long id;
+    private String ownerName;
+    private String uniqueSlug;
+    private User.UserCategory category;
+    private int itemCount;
+    private List<String> matchedItems;
+    private int score;
+}
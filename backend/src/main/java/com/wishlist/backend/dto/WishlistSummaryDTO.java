@@ -0,0 +1,13 @@
+package com.wishlist.backend.dto;
+
+import com.wishlist.backend.model.User;
+import lombok.Data;
+
+@Data
+public class WishlistSummaryDTO {
+    private Long id;
+    private String ownerName;
+    private String uniqueSlug;
+    private User.UserCategory category;
+    private long itemCount;
+}
@@ -0,0 +1,12 @@
+package com.wishlist.backend.event;
+
+import lombok.Value;
+
+/**
+ * Published by the home snapshot once a published snapshot includes the given change, so home page
+ * listeners refetch only when the summaries they get back are already up to date.
+ */
+@Value
+public class HomeSnapshotUpdatedEvent {
+    WishlistChangedEvent change;
+}
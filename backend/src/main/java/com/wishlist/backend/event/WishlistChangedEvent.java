@@ -0,0 +1,19 @@
+package com.wishlist.backend.event;
+
+import lombok.Value;
+
+/**
+ * Published by the services whenever a wishlist or one of its items changes.
+ */
+@Value
+public class WishlistChangedEvent {
+    Long wishlistId;
+    String slug;
+    Type type;
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -4,9 +4,12 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "site_settings")
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "site-settings")
 public class SiteSetting {
     
     @Id
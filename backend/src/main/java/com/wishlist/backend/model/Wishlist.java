@@ -2,6 +2,8 @@ package com.wishlist.backend.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,11 +14,15 @@ import java.util.List;
 
 @Entity
 @Table(name = "wishlists")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "wishlists")
 @EntityListeners(AuditingEntityListener.class)
 @Data
 public class Wishlist {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "wishlist_seq")
+    @SequenceGenerator(name = "wishlist_seq", sequenceName = "wishlists_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
@@ -33,6 +39,7 @@ public class Wishlist {
     private User.UserCategory category;
     
     @OneToMany(mappedBy = "wishlist", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "wishlist-items-by-wishlist")
     private List<WishlistItem> items = new ArrayList<>();
     
     @CreatedDate
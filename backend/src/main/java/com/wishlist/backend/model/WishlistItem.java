@@ -3,16 +3,23 @@ package com.wishlist.backend.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "wishlist_items")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "wishlist-items")
 @Data
 public class WishlistItem {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Sequence ids (a pooled table on MySQL) let Hibernate batch item inserts; IDENTITY cannot
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "wishlist_item_seq")
+    @SequenceGenerator(name = "wishlist_item_seq", sequenceName = "wishlist_items_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
@@ -0,0 +1,95 @@
+package com.wishlist.backend.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Scopes {@link QueryInspector} statistics to one HTTP request and reports requests that exceed
+ * the query-count or JDBC-time budget. In debug mode the numbers are also returned as response headers,
+ * except on event streams and on the streaming paths in {@code app.query-inspector.unbuffered-paths},
+ * whose bodies must not be buffered.
+ */
+@Slf4j
+@Component
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final QueryInspector queryInspector;
+    private final int maxQueries;
+    private final long maxJdbcMillis;
+    private final boolean debugHeaders;
+    private final List<String> unbufferedPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final DistributionSummary queriesPerRequest;
+
+    public QueryBudgetFilter(
+            QueryInspector queryInspector,
+            MeterRegistry meterRegistry,
+            @Value("${app.query-inspector.max-queries:20}") int maxQueries,
+            @Value("${app.query-inspector.max-jdbc-time:500ms}") Duration maxJdbcTime,
+            @Value("${app.query-inspector.debug-headers:false}") boolean debugHeaders,
+            @Value("${app.query-inspector.unbuffered-paths:/api/admin/export}") List<String> unbufferedPaths) {
+        this.queryInspector = queryInspector;
+        this.maxQueries = maxQueries;
+        this.maxJdbcMillis = maxJdbcTime.toMillis();
+        this.debugHeaders = debugHeaders;
+        this.unbufferedPaths = unbufferedPaths;
+        this.queriesPerRequest = DistributionSummary.builder("app.request.queries")
+                .description("JDBC statements executed per HTTP request")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryInspector.RequestQueryStats stats = queryInspector.begin();
+        long start = System.nanoTime();
+
+        // Buffering the body is only needed to add headers after the fact; never buffer streamed bodies
+        boolean withHeaders = debugHeaders && !isStreaming(request);
+        ContentCachingResponseWrapper wrapper = withHeaders ? new ContentCachingResponseWrapper(response) : null;
+
+        try {
+            chain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            queryInspector.end();
+            long totalMillis = (System.nanoTime() - start) / 1_000_000;
+            queriesPerRequest.record(stats.getQueryCount());
+
+            if (stats.getQueryCount() > maxQueries || stats.getJdbcMillis() > maxJdbcMillis) {
+                log.warn("query_budget_exceeded method={} uri={} status={} queries={} jdbcMs={} totalMs={}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        stats.getQueryCount(), stats.getJdbcMillis(), totalMillis);
+            }
+            if (wrapper != null) {
+                wrapper.setHeader("X-Query-Count", String.valueOf(stats.getQueryCount()));
+                wrapper.setHeader("X-Query-Time-Ms", String.valueOf(stats.getJdbcMillis()));
+                wrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+    private boolean isStreaming(HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        if (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE)) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return unbufferedPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+}
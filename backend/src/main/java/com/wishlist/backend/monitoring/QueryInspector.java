@@ -0,0 +1,94 @@
+package com.wishlist.backend.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC listener that counts statements and accumulates JDBC time for the request bound to the current thread,
+ * and logs statements slower than the configured threshold together with their bind-parameter types.
+ */
+@Slf4j
+@Component
+public class QueryInspector implements QueryExecutionListener {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private final long slowQueryThresholdMillis;
+
+    public QueryInspector(@Value("${app.query-inspector.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+    }
+
+    public RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public void end() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.record(execInfo.getElapsedTime());
+        }
+        if (execInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+            for (QueryInfo query : queryInfoList) {
+                log.warn("slow_query elapsedMs={} batch={} batchSize={} params={} sql=\"{}\"",
+                        execInfo.getElapsedTime(), execInfo.isBatch(), execInfo.getBatchSize(),
+                        parameterShape(query), query.getQuery());
+            }
+        }
+    }
+
+    /**
+     * Describes bind parameters by type only, e.g. [Long, String], so logs never carry user data.
+     */
+    private static String parameterShape(QueryInfo query) {
+        if (query.getParametersList().isEmpty()) {
+            return "[]";
+        }
+        List<ParameterSetOperation> first = query.getParametersList().get(0);
+        return first.stream()
+                .map(operation -> {
+                    Object[] args = operation.getArgs();
+                    Object value = args.length > 1 ? args[1] : null;
+                    return value != null ? value.getClass().getSimpleName() : "null";
+                })
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    public static class RequestQueryStats {
+        private int queryCount;
+        private long jdbcMillis;
+
+        void record(long elapsedMillis) {
+            queryCount++;
+            jdbcMillis += elapsedMillis;
+        }
+
+        public int getQueryCount() {
+            return queryCount;
+        }
+
+        public long getJdbcMillis() {
+            return jdbcMillis;
+        }
+    }
+}
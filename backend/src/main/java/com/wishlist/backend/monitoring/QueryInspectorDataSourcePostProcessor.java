@@ -0,0 +1,32 @@
+package com.wishlist.backend.monitoring;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource so every statement passes through {@link QueryInspector}.
+ */
+@Component
+public class QueryInspectorDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryInspector> queryInspector;
+
+    public QueryInspectorDataSourcePostProcessor(ObjectProvider<QueryInspector> queryInspector) {
+        this.queryInspector = queryInspector;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(beanName, dataSource)
+                    .listener(queryInspector.getObject())
+                    .build();
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,56 @@
+package com.wishlist.backend.monitoring;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hit, miss and put counts of the Hibernate second-level cache, per region, for tuning region sizes.
+ * The same numbers are exported continuously as hibernate.* metrics.
+ */
+@Component
+public class SecondLevelCacheStats {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheStats(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> regions = new TreeMap<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStats = statistics.getCacheRegionStatistics(region);
+            if (regionStats == null) {
+                continue;
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("hits", regionStats.getHitCount());
+            stats.put("misses", regionStats.getMissCount());
+            stats.put("puts", regionStats.getPutCount());
+            stats.put("size", regionStats.getElementCountInMemory());
+            stats.put("hitRate", hitRate(regionStats.getHitCount(), regionStats.getMissCount()));
+            regions.put(region, stats);
+        }
+
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hits", statistics.getSecondLevelCacheHitCount());
+        result.put("misses", statistics.getSecondLevelCacheMissCount());
+        result.put("puts", statistics.getSecondLevelCachePutCount());
+        result.put("hitRate", hitRate(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount()));
+        result.put("regions", regions);
+        return result;
+    }
+
+    private static double hitRate(long hits, long misses) {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -9,4 +9,4 @@ import java.util.List;
 @Repository
 public interface ItemRepository extends JpaRepository<WishlistItem, Long> {
     List<WishlistItem> findByWishlistId(Long wishlistId);
-}
\ No newline at end of file
+}
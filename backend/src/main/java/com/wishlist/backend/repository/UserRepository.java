@@ -2,8 +2,11 @@ package com.wishlist.backend.repository;
 
 import com.wishlist.backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +14,7 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByFullName(String fullName);
     boolean existsByFullName(String fullName);
-    List<User> findByCategory(User.UserCategory category);
-    List<User> findAllByOrderByFullNameAsc();
+
+    @Query("SELECT u.fullName FROM User u WHERE u.fullName IN :names")
+    List<String> findFullNamesIn(@Param("names") Collection<String> names);
 }
\ No newline at end of file
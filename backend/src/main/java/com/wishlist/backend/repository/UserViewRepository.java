@@ -0,0 +1,77 @@
+package com.wishlist.backend.repository;
+
+import com.wishlist.backend.dto.UserDTO;
+import com.wishlist.backend.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only user queries mapped straight from JDBC rows into {@link UserDTO}s.
+ */
+@Repository
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class UserViewRepository {
+
+    private static final String SELECT_USERS = "SELECT id, full_name, category, created_at FROM users ";
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "fullName", "full_name",
+            "category", "category",
+            "createdAt", "created_at");
+    private static final RowMapper<UserDTO> USER_MAPPER = (rs, rowNum) -> {
+        UserDTO dto = new UserDTO();
+        dto.setId(rs.getLong("id"));
+        dto.setFullName(rs.getString("full_name"));
+        dto.setCategory(User.UserCategory.valueOf(rs.getString("category")));
+        dto.setCreatedAt(ViewQueries.timestamp(rs, "created_at"));
+        return dto;
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<UserDTO> findAllOrderByFullName() {
+        return jdbcTemplate.query(SELECT_USERS + "ORDER BY full_name", USER_MAPPER);
+    }
+
+    public List<UserDTO> findPage(Sort sort, long offset, int limit) {
+        return jdbcTemplate.query(
+                SELECT_USERS + ViewQueries.orderBy(sort, SORT_COLUMNS) + " LIMIT :limit OFFSET :offset",
+                Map.of("limit", limit, "offset", offset),
+                USER_MAPPER);
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Map.of(), Long.class);
+        return count != null ? count : 0;
+    }
+
+    public List<UserDTO> findByCategory(User.UserCategory category) {
+        return jdbcTemplate.query(
+                SELECT_USERS + "WHERE category = :category ORDER BY full_name",
+                Map.of("category", category.name()),
+                USER_MAPPER);
+    }
+
+    public List<UserDTO> findFirstPage(int limit) {
+        return jdbcTemplate.query(
+                SELECT_USERS + "ORDER BY full_name, id LIMIT :limit",
+                Map.of("limit", limit),
+                USER_MAPPER);
+    }
+
+    public List<UserDTO> findPageAfter(String fullName, long id, int limit) {
+        return jdbcTemplate.query(
+                SELECT_USERS + "WHERE full_name > :fullName OR (full_name = :fullName AND id > :id) "
+                        + "ORDER BY full_name, id LIMIT :limit",
+                Map.of("fullName", fullName, "id", id, "limit", limit),
+                USER_MAPPER);
+    }
+}
@@ -0,0 +1,38 @@
+package com.wishlist.backend.repository;
+
+import org.springframework.data.domain.Sort;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Shared SQL helpers for the JDBC view repositories.
+ */
+final class ViewQueries {
+
+    private ViewQueries() {}
+
+    /**
+     * Renders a Spring Data sort as an ORDER BY clause, mapping properties through a column whitelist.
+     */
+    static String orderBy(Sort sort, Map<String, String> columns) {
+        return "ORDER BY " + sort.stream()
+                .map(order -> {
+                    String column = columns.get(order.getProperty());
+                    if (column == null) {
+                        throw new RuntimeException("Unsupported sort field: " + order.getProperty());
+                    }
+                    return column + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", "));
+    }
+
+    // Same format as LocalDateTime.toString() on the entity, so ETags and DTOs match across read paths
+    static String timestamp(ResultSet rs, String column) throws SQLException {
+        LocalDateTime value = rs.getObject(column, LocalDateTime.class);
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.wishlist.backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row count and newest modification time of the wishlists table; changes whenever any list view would.
+ */
+public interface WishlistCollectionVersion {
+    long getCount();
+    LocalDateTime getLastUpdated();
+}
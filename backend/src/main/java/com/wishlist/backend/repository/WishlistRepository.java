@@ -1,18 +1,34 @@
 package com.wishlist.backend.repository;
 
-import com.wishlist.backend.model.User;
 import com.wishlist.backend.model.Wishlist;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
+    // Read paths fetch items in the same query so DTO mapping never triggers lazy loads
+    @EntityGraph(attributePaths = "items")
     Optional<Wishlist> findByUniqueSlug(String uniqueSlug);
-    List<Wishlist> findByOwnerNameContainingIgnoreCase(String name);
-    List<Wishlist> findByCategory(User.UserCategory category);
+
+    @EntityGraph(attributePaths = "items")
+    List<Wishlist> findWithItemsByIdIn(Collection<Long> ids);
+
+    // Read once at startup to build the search index; list endpoints read through WishlistViewRepository
+    @EntityGraph(attributePaths = "items")
     List<Wishlist> findAllByOrderByCategoryAsc();
-    boolean existsByUniqueSlug(String uniqueSlug);
-}
\ No newline at end of file
+
+    Optional<WishlistVersion> findVersionByUniqueSlug(String uniqueSlug);
+
+    @Query("SELECT COUNT(w) AS count, MAX(w.updatedAt) AS lastUpdated FROM Wishlist w")
+    WishlistCollectionVersion findCollectionVersion();
+
+    @Query("SELECT w.ownerName FROM Wishlist w WHERE w.ownerName IN :names")
+    List<String> findOwnerNamesIn(@Param("names") Collection<String> names);
+}
@@ -0,0 +1,11 @@
+package com.wishlist.backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Just enough of a wishlist to tell whether a client's copy is current.
+ */
+public interface WishlistVersion {
+    Long getId();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,210 @@
+package com.wishlist.backend.repository;
+
+import com.wishlist.backend.dto.ItemDTO;
+import com.wishlist.backend.dto.WishlistDTO;
+import com.wishlist.backend.dto.WishlistSummaryDTO;
+import com.wishlist.backend.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Read-only wishlist queries mapped straight from JDBC rows into {@link WishlistDTO}s and {@link ItemDTO}s,
+ * bypassing entity hydration and the persistence context. Items for a whole result are loaded with one more query:
+ * by IN list for pages and id sets, by join or a plain scan for whole categories and the full table, so large
+ * reads never bind thousands of ids. Summaries carry only an item count, aggregated per wishlist without touching
+ * item text columns.
+ */
+@Repository
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class WishlistViewRepository {
+
+    private static final String SELECT_WISHLISTS =
+            "SELECT id, owner_name, unique_slug, note, category, created_at, updated_at FROM wishlists ";
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "category", "category",
+            "ownerName", "owner_name",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at");
+    private static final String SELECT_SUMMARIES = "SELECT id, owner_name, unique_slug, category FROM wishlists ";
+    private static final String SELECT_ITEMS =
+            "SELECT i.id, i.wishlist_id, i.item_name, i.description, i.shop_link FROM wishlist_items i ";
+    private static final String ITEM_ORDER = " ORDER BY i.wishlist_id, i.id";
+    private static final String COUNT_ITEMS = "SELECT i.wishlist_id, COUNT(*) AS item_count FROM wishlist_items i ";
+    private static final RowMapper<WishlistDTO> WISHLIST_MAPPER = (rs, rowNum) -> mapWishlist(rs);
+    private static final RowMapper<WishlistSummaryDTO> SUMMARY_MAPPER = (rs, rowNum) -> {
+        WishlistSummaryDTO dto = new WishlistSummaryDTO();
+        dto.setId(rs.getLong("id"));
+        dto.setOwnerName(rs.getString("owner_name"));
+        dto.setUniqueSlug(rs.getString("unique_slug"));
+        dto.setCategory(User.UserCategory.valueOf(rs.getString("category")));
+        return dto;
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<WishlistDTO> findAllOrderByCategory() {
+        return withItems(jdbcTemplate.query(SELECT_WISHLISTS + "ORDER BY category, id", WISHLIST_MAPPER),
+                SELECT_ITEMS + ITEM_ORDER, Map.of());
+    }
+
+    public List<WishlistDTO> findPage(Sort sort, long offset, int limit) {
+        return withItems(jdbcTemplate.query(
+                SELECT_WISHLISTS + ViewQueries.orderBy(sort, SORT_COLUMNS) + " LIMIT :limit OFFSET :offset",
+                Map.of("limit", limit, "offset", offset),
+                WISHLIST_MAPPER));
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM wishlists", Map.of(), Long.class);
+        return count != null ? count : 0;
+    }
+
+    public List<WishlistDTO> findByCategory(User.UserCategory category) {
+        Map<String, Object> params = Map.of("category", category.name());
+        return withItems(jdbcTemplate.query(
+                        SELECT_WISHLISTS + "WHERE category = :category ORDER BY id", params, WISHLIST_MAPPER),
+                SELECT_ITEMS + "JOIN wishlists w ON w.id = i.wishlist_id WHERE w.category = :category" + ITEM_ORDER,
+                params);
+    }
+
+    public List<WishlistDTO> findByCategoryAfterId(User.UserCategory category, long afterId, int limit) {
+        return withItems(jdbcTemplate.query(
+                SELECT_WISHLISTS + "WHERE category = :category AND id > :afterId ORDER BY id LIMIT :limit",
+                Map.of("category", category.name(), "afterId", afterId, "limit", limit),
+                WISHLIST_MAPPER));
+    }
+
+    public List<WishlistDTO> findAfterId(long afterId, int limit) {
+        return withItems(jdbcTemplate.query(
+                SELECT_WISHLISTS + "WHERE id > :afterId ORDER BY id LIMIT :limit",
+                Map.of("afterId", afterId, "limit", limit),
+                WISHLIST_MAPPER));
+    }
+
+    public List<WishlistDTO> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return withItems(jdbcTemplate.query(
+                SELECT_WISHLISTS + "WHERE id IN (:ids)",
+                Map.of("ids", ids),
+                WISHLIST_MAPPER));
+    }
+
+    public List<WishlistSummaryDTO> findAllSummariesOrderByCategory() {
+        return withItemCounts(jdbcTemplate.query(SELECT_SUMMARIES + "ORDER BY category, id", SUMMARY_MAPPER),
+                COUNT_ITEMS + "GROUP BY i.wishlist_id", Map.of());
+    }
+
+    public List<WishlistSummaryDTO> findSummaryPage(Sort sort, long offset, int limit) {
+        return withItemCounts(jdbcTemplate.query(
+                SELECT_SUMMARIES + ViewQueries.orderBy(sort, SORT_COLUMNS) + " LIMIT :limit OFFSET :offset",
+                Map.of("limit", limit, "offset", offset),
+                SUMMARY_MAPPER));
+    }
+
+    public List<WishlistSummaryDTO> findSummariesByCategoryAfterId(User.UserCategory category, long afterId, int limit) {
+        return withItemCounts(jdbcTemplate.query(
+                SELECT_SUMMARIES + "WHERE category = :category AND id > :afterId ORDER BY id LIMIT :limit",
+                Map.of("category", category.name(), "afterId", afterId, "limit", limit),
+                SUMMARY_MAPPER));
+    }
+
+    public List<WishlistSummaryDTO> findSummariesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return withItemCounts(jdbcTemplate.query(
+                SELECT_SUMMARIES + "WHERE id IN (:ids)",
+                Map.of("ids", ids),
+                SUMMARY_MAPPER));
+    }
+
+    private List<WishlistDTO> withItems(List<WishlistDTO> wishlists) {
+        return withItems(wishlists, SELECT_ITEMS + "WHERE i.wishlist_id IN (:ids)" + ITEM_ORDER,
+                Map.of("ids", ids(wishlists, WishlistDTO::getId)));
+    }
+
+    /**
+     * Attaches the items returned by {@code itemSql}. Items of wishlists missing from {@code wishlists}, e.g.
+     * created after the wishlist query ran, are skipped.
+     */
+    private List<WishlistDTO> withItems(List<WishlistDTO> wishlists, String itemSql, Map<String, ?> params) {
+        if (wishlists.isEmpty()) {
+            return wishlists;
+        }
+
+        Map<Long, WishlistDTO> byId = new HashMap<>();
+        wishlists.forEach(wishlist -> byId.put(wishlist.getId(), wishlist));
+        jdbcTemplate.query(itemSql, params, (RowCallbackHandler) rs -> {
+            WishlistDTO wishlist = byId.get(rs.getLong("wishlist_id"));
+            if (wishlist == null) {
+                return;
+            }
+            ItemDTO item = new ItemDTO();
+            item.setId(rs.getLong("id"));
+            item.setWishlistId(wishlist.getId());
+            item.setItemName(rs.getString("item_name"));
+            item.setDescription(rs.getString("description"));
+            item.setShopLink(rs.getString("shop_link"));
+            wishlist.getItems().add(item);
+        });
+        return wishlists;
+    }
+
+    private List<WishlistSummaryDTO> withItemCounts(List<WishlistSummaryDTO> summaries) {
+        return withItemCounts(summaries, COUNT_ITEMS + "WHERE i.wishlist_id IN (:ids) GROUP BY i.wishlist_id",
+                Map.of("ids", ids(summaries, WishlistSummaryDTO::getId)));
+    }
+
+    // Counted from the (wishlist_id, id) index alone
+    private List<WishlistSummaryDTO> withItemCounts(List<WishlistSummaryDTO> summaries, String countSql,
+                                                    Map<String, ?> params) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+
+        Map<Long, WishlistSummaryDTO> byId = new HashMap<>();
+        summaries.forEach(summary -> byId.put(summary.getId(), summary));
+        jdbcTemplate.query(countSql, params, (RowCallbackHandler) rs -> {
+            WishlistSummaryDTO summary = byId.get(rs.getLong("wishlist_id"));
+            if (summary != null) {
+                summary.setItemCount(rs.getLong("item_count"));
+            }
+        });
+        return summaries;
+    }
+
+    private static <T> List<Long> ids(List<T> rows, Function<T, Long> id) {
+        return rows.stream().map(id).toList();
+    }
+
+    private static WishlistDTO mapWishlist(ResultSet rs) throws SQLException {
+        WishlistDTO dto = new WishlistDTO();
+        dto.setId(rs.getLong("id"));
+        dto.setOwnerName(rs.getString("owner_name"));
+        dto.setUniqueSlug(rs.getString("unique_slug"));
+        dto.setNote(rs.getString("note"));
+        dto.setCategory(User.UserCategory.valueOf(rs.getString("category")));
+        dto.setCreatedAt(ViewQueries.timestamp(rs, "created_at"));
+        dto.setUpdatedAt(ViewQueries.timestamp(rs, "updated_at"));
+        dto.setItems(new ArrayList<>());
+        return dto;
+    }
+}
@@ -0,0 +1,172 @@
+package com.wishlist.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wishlist.backend.dto.AuthTokenDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Issues and verifies stateless bearer tokens: {@code base64url(username|roles|expiry).base64url(HMAC-SHA256)}.
+ * Any instance holding the same secret can verify a token, so no session or sticky routing is needed.
+ * Verified tokens are kept in a small cache, which makes repeat requests a map lookup instead of an HMAC.
+ * The secret must be at least 32 bytes, the HMAC-SHA256 key size.
+ */
+@Slf4j
+@Component
+public class AuthTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Cache<String, Verified> verified;
+
+    @Autowired
+    public AuthTokenService(
+            @Value("${app.auth.token-secret:}") String secret,
+            @Value("${app.auth.token-ttl:2h}") Duration ttl,
+            @Value("${app.auth.verified-cache-size:10000}") long verifiedCacheSize,
+            MeterRegistry meterRegistry) {
+        this(secret, ttl, verifiedCacheSize, meterRegistry, Clock.systemUTC());
+    }
+
+    AuthTokenService(String secret, Duration ttl, long verifiedCacheSize, MeterRegistry meterRegistry, Clock clock) {
+        this.key = new SecretKeySpec(secretBytes(secret), ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "verifiedTokens");
+    }
+
+    public AuthTokenDTO issue(Authentication authentication) {
+        List<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+        Instant expiresAt = clock.instant().plus(ttl);
+        String payload = authentication.getName() + SEPARATOR + String.join(",", roles)
+                + SEPARATOR + expiresAt.getEpochSecond();
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+
+        AuthTokenDTO dto = new AuthTokenDTO();
+        dto.setToken(encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload)));
+        dto.setUsername(authentication.getName());
+        dto.setRoles(roles);
+        dto.setExpiresAt(expiresAt.toString());
+        return dto;
+    }
+
+    /**
+     * The authentication carried by a valid, unexpired token; null otherwise. Every call returns a new
+     * instance, since the security context a request puts it in may change it.
+     */
+    public Authentication verify(String token) {
+        long now = clock.instant().getEpochSecond();
+        Verified entry = verified.getIfPresent(token);
+        if (entry == null) {
+            entry = check(token);
+            if (entry != null && entry.expiresAt > now) {
+                verified.put(token, entry);
+            }
+        }
+        if (entry == null || entry.expiresAt <= now) {
+            return null;
+        }
+        return UsernamePasswordAuthenticationToken.authenticated(entry.username, null, entry.authorities);
+    }
+
+    private Verified check(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return null;
+        }
+        String encodedPayload = token.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            // Constant-time comparison, so timing does not reveal how much of a forged signature matched
+            if (!MessageDigest.isEqual(sign(encodedPayload), signature)) {
+                return null;
+            }
+            String[] parts = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 3) {
+                return null;
+            }
+            List<GrantedAuthority> authorities = parts[1].isEmpty()
+                    ? List.of()
+                    : AuthorityUtils.commaSeparatedStringToAuthorityList(parts[1]);
+            return new Verified(parts[0], authorities, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        try {
+            // Mac is not thread-safe; a fresh instance is cheap next to the cache hits it is reserved for
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign auth token", e);
+        }
+    }
+
+    private static byte[] secretBytes(String secret) {
+        if (secret != null && !secret.isBlank()) {
+            byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("app.auth.token-secret must be at least " + MIN_SECRET_BYTES
+                        + " bytes, got " + bytes.length);
+            }
+            return bytes;
+        }
+        log.warn("app.auth.token-secret is not set; using a random key, so tokens are lost on restart "
+                + "and not accepted by other instances");
+        byte[] random = new byte[MIN_SECRET_BYTES];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+
+    // Immutable, so one cached entry can be shared by concurrent requests
+    private static class Verified {
+        final String username;
+        final List<GrantedAuthority> authorities;
+        final long expiresAt;
+
+        Verified(String username, List<GrantedAuthority> authorities, long expiresAt) {
+            this.username = username;
+            this.authorities = List.copyOf(authorities);
+            this.expiresAt = expiresAt;
+        }
+    }
+}
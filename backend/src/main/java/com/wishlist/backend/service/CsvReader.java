@@ -0,0 +1,79 @@
+package com.wishlist.backend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: quoted fields may contain commas, doubled quotes and line breaks.
+ */
+final class CsvReader {
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private int recordLine;
+
+    CsvReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or null at end of input.
+     */
+    List<String> next() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        recordLine = ++lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i >= line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                String continuation = reader.readLine();
+                if (continuation == null) {
+                    break;
+                }
+                lineNumber++;
+                field.append('\n');
+                line = continuation;
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == '"' && i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Line number on which the record last returned by {@link #next()} started.
+     */
+    int recordLine() {
+        return recordLine;
+    }
+}
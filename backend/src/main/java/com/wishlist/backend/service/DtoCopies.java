@@ -0,0 +1,69 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.dto.ItemDTO;
+import com.wishlist.backend.dto.WishlistDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deep copies of the mutable DTOs, so values kept in a cache or shared between coalesced callers
+ * are never changed through a reference handed to one of them.
+ */
+final class DtoCopies {
+
+    private DtoCopies() {}
+
+    /**
+     * A copy whose item list cannot be modified, for storing.
+     */
+    static WishlistDTO frozen(WishlistDTO source) {
+        WishlistDTO copy = copyFields(source);
+        copy.setItems(source.getItems() != null ? source.getItems().stream().map(DtoCopies::copy).toList() : null);
+        return copy;
+    }
+
+    /**
+     * A fully independent, modifiable copy, for handing out.
+     */
+    static WishlistDTO copy(WishlistDTO source) {
+        WishlistDTO copy = copyFields(source);
+        if (source.getItems() != null) {
+            List<ItemDTO> items = new ArrayList<>(source.getItems().size());
+            source.getItems().forEach(item -> items.add(copy(item)));
+            copy.setItems(items);
+        }
+        return copy;
+    }
+
+    static List<WishlistDTO> copy(List<WishlistDTO> source) {
+        List<WishlistDTO> copies = new ArrayList<>(source.size());
+        source.forEach(wishlist -> copies.add(copy(wishlist)));
+        return copies;
+    }
+
+    static ItemDTO copy(ItemDTO source) {
+        if (source == null) {
+            return null;
+        }
+        ItemDTO copy = new ItemDTO();
+        copy.setId(source.getId());
+        copy.setItemName(source.getItemName());
+        copy.setDescription(source.getDescription());
+        copy.setShopLink(source.getShopLink());
+        copy.setWishlistId(source.getWishlistId());
+        return copy;
+    }
+
+    private static WishlistDTO copyFields(WishlistDTO source) {
+        WishlistDTO copy = new WishlistDTO();
+        copy.setId(source.getId());
+        copy.setOwnerName(source.getOwnerName());
+        copy.setUniqueSlug(source.getUniqueSlug());
+        copy.setNote(source.getNote());
+        copy.setCategory(source.getCategory());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        return copy;
+    }
+}
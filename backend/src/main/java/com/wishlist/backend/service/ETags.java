@@ -0,0 +1,34 @@
+package com.wishlist.backend.service;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Builds the strong entity tags used for conditional GETs. Values are unquoted; Spring adds the quotes.
+ */
+public final class ETags {
+
+    private ETags() {}
+
+    public static String forWishlist(Long id, String updatedAt) {
+        return "w-" + id + "-" + compact(updatedAt);
+    }
+
+    public static String forCollection(long count, LocalDateTime lastUpdated) {
+        return "wl-" + count + "-" + compact(lastUpdated != null ? lastUpdated.toString() : null);
+    }
+
+    public static String forSnapshot(long generation, long version) {
+        return "hs-" + generation + "-" + version;
+    }
+
+    public static String forContent(String content) {
+        return "c-" + DigestUtils.md5DigestAsHex((content != null ? content : "").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String compact(String timestamp) {
+        return timestamp != null ? timestamp.replaceAll("[^0-9]", "") : "0";
+    }
+}
@@ -0,0 +1,397 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.dto.CreateWishlistRequest;
+import com.wishlist.backend.dto.ImportResultDTO;
+import com.wishlist.backend.dto.ItemDTO;
+import com.wishlist.backend.dto.RegisterUserRequest;
+import com.wishlist.backend.event.WishlistChangedEvent;
+import com.wishlist.backend.model.User;
+import com.wishlist.backend.model.Wishlist;
+import com.wishlist.backend.model.WishlistItem;
+import com.wishlist.backend.repository.UserRepository;
+import com.wishlist.backend.repository.WishlistRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of users and wishlists from NDJSON or CSV uploads.
+ * Input is parsed as a stream and processed in chunks: each chunk is validated and deduplicated in memory,
+ * checked against the database with one set-based query, and written in its own transaction.
+ * Bad rows are reported by line number without aborting the rest of the file.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final UserRepository userRepository;
+    private final WishlistRepository wishlistRepository;
+    private final SlugGenerator slugGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * NDJSON lines are RegisterUserRequest objects; CSV needs a header with full_name and category.
+     */
+    public ImportResultDTO importUsers(InputStream in, boolean csv) throws IOException {
+        ImportResultDTO result = new ImportResultDTO();
+        Set<String> seenNames = new HashSet<>();
+        List<Row<RegisterUserRequest>> chunk = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        if (csv) {
+            CsvReader csvReader = new CsvReader(reader);
+            Map<String, Integer> header = readHeader(csvReader);
+            List<String> fields;
+            while ((fields = csvReader.next()) != null) {
+                if (isBlank(fields)) {
+                    continue;
+                }
+                result.setTotal(result.getTotal() + 1);
+                try {
+                    RegisterUserRequest request = new RegisterUserRequest();
+                    request.setFullName(field(fields, header, "fullname"));
+                    request.setCategory(category(field(fields, header, "category")));
+                    chunk.add(new Row<>(csvReader.recordLine(), request));
+                } catch (RuntimeException e) {
+                    addError(result, csvReader.recordLine(), e.getMessage());
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    importUserChunk(chunk, seenNames, result);
+                    chunk.clear();
+                }
+            }
+        } else {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                result.setTotal(result.getTotal() + 1);
+                try {
+                    chunk.add(new Row<>(lineNumber, jsonMapper.readValue(line, RegisterUserRequest.class)));
+                } catch (RuntimeException e) {
+                    addError(result, lineNumber, "Invalid JSON: " + e.getMessage());
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    importUserChunk(chunk, seenNames, result);
+                    chunk.clear();
+                }
+            }
+        }
+        importUserChunk(chunk, seenNames, result);
+        return result;
+    }
+
+    /**
+     * NDJSON lines are CreateWishlistRequest objects. CSV needs a header with owner_name and category,
+     * optionally note, item_name, description and shop_link; consecutive rows with the same owner form one wishlist.
+     */
+    public ImportResultDTO importWishlists(InputStream in, boolean csv) throws IOException {
+        ImportResultDTO result = new ImportResultDTO();
+        Set<String> seenOwners = new HashSet<>();
+        List<Row<CreateWishlistRequest>> chunk = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        if (csv) {
+            CsvReader csvReader = new CsvReader(reader);
+            Map<String, Integer> header = readHeader(csvReader);
+            Row<CreateWishlistRequest> current = null;
+            String rejectedOwner = null;
+            List<String> fields;
+            while ((fields = csvReader.next()) != null) {
+                if (isBlank(fields)) {
+                    continue;
+                }
+                String ownerName = field(fields, header, "ownername");
+                // Further rows of a wishlist whose first row was rejected are already covered by that error
+                if (current == null && ownerName != null && ownerName.equals(rejectedOwner)) {
+                    continue;
+                }
+                rejectedOwner = null;
+                try {
+                    if (current == null || ownerName == null || !ownerName.equals(current.value.getOwnerName())) {
+                        if (current != null) {
+                            chunk.add(current);
+                            current = null;
+                        }
+                        CreateWishlistRequest request = new CreateWishlistRequest();
+                        request.setOwnerName(ownerName);
+                        request.setCategory(category(field(fields, header, "category")));
+                        request.setNote(field(fields, header, "note"));
+                        request.setItems(new ArrayList<>());
+                        current = new Row<>(csvReader.recordLine(), request);
+                        result.setTotal(result.getTotal() + 1);
+                    }
+                    String itemName = field(fields, header, "itemname");
+                    if (itemName != null) {
+                        ItemDTO item = new ItemDTO();
+                        item.setItemName(itemName);
+                        item.setDescription(field(fields, header, "description"));
+                        item.setShopLink(field(fields, header, "shoplink"));
+                        current.value.getItems().add(item);
+                    }
+                } catch (RuntimeException e) {
+                    result.setTotal(result.getTotal() + 1);
+                    addError(result, csvReader.recordLine(), e.getMessage());
+                    rejectedOwner = ownerName;
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    importWishlistChunk(chunk, seenOwners, result);
+                    chunk.clear();
+                }
+            }
+            if (current != null) {
+                chunk.add(current);
+            }
+        } else {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                result.setTotal(result.getTotal() + 1);
+                try {
+                    chunk.add(new Row<>(lineNumber, jsonMapper.readValue(line, CreateWishlistRequest.class)));
+                } catch (RuntimeException e) {
+                    addError(result, lineNumber, "Invalid JSON: " + e.getMessage());
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    importWishlistChunk(chunk, seenOwners, result);
+                    chunk.clear();
+                }
+            }
+        }
+        importWishlistChunk(chunk, seenOwners, result);
+        return result;
+    }
+
+    private void importUserChunk(List<Row<RegisterUserRequest>> chunk, Set<String> seenNames, ImportResultDTO result) {
+        List<Row<RegisterUserRequest>> valid = new ArrayList<>();
+        for (Row<RegisterUserRequest> row : chunk) {
+            RegisterUserRequest request = row.value;
+            if (request.getFullName() == null || request.getFullName().isBlank()) {
+                addError(result, row.line, "Full name is required");
+            } else if (request.getCategory() == null) {
+                addError(result, row.line, "Category is required");
+            } else if (!seenNames.add(key(request.getFullName()))) {
+                addError(result, row.line, "Duplicate name in file: " + request.getFullName());
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = userRepository.findFullNamesIn(valid.stream()
+                        .map(row -> row.value.getFullName())
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(ImportService::key)
+                .collect(Collectors.toSet());
+
+        List<Row<RegisterUserRequest>> toSave = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        for (Row<RegisterUserRequest> row : valid) {
+            if (existing.contains(key(row.value.getFullName()))) {
+                addError(result, row.line, "User with this name already exists");
+                continue;
+            }
+            User user = new User();
+            user.setFullName(row.value.getFullName());
+            user.setCategory(row.value.getCategory());
+            users.add(user);
+            toSave.add(row);
+        }
+        if (users.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(users));
+            result.setImported(result.getImported() + users.size());
+        } catch (RuntimeException e) {
+            toSave.forEach(row -> addError(result, row.line, "Chunk rejected by database: " + e.getMessage()));
+        }
+    }
+
+    private void importWishlistChunk(List<Row<CreateWishlistRequest>> chunk, Set<String> seenOwners, ImportResultDTO result) {
+        List<Row<CreateWishlistRequest>> valid = new ArrayList<>();
+        for (Row<CreateWishlistRequest> row : chunk) {
+            String error = validate(row.value);
+            if (error != null) {
+                addError(result, row.line, error);
+            } else if (!seenOwners.add(key(row.value.getOwnerName()))) {
+                addError(result, row.line, "Duplicate wishlist owner in file: " + row.value.getOwnerName());
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        // One wishlist per person, as in the UI
+        Set<String> existingOwners = wishlistRepository.findOwnerNamesIn(valid.stream()
+                        .map(row -> row.value.getOwnerName())
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(ImportService::key)
+                .collect(Collectors.toSet());
+        List<Row<CreateWishlistRequest>> toSave = new ArrayList<>();
+        for (Row<CreateWishlistRequest> row : valid) {
+            if (existingOwners.contains(key(row.value.getOwnerName()))) {
+                addError(result, row.line, "Wishlist for this owner already exists");
+            } else {
+                toSave.add(row);
+            }
+        }
+        if (toSave.isEmpty()) {
+            return;
+        }
+
+        List<Wishlist> wishlists = new ArrayList<>();
+        for (Row<CreateWishlistRequest> row : toSave) {
+            wishlists.add(toEntity(row.value, slugGenerator.generate(row.value.getOwnerName())));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                wishlistRepository.saveAll(wishlists);
+                // Listeners run after the chunk commits, and not at all if it is rolled back
+                wishlists.forEach(wishlist -> eventPublisher.publishEvent(new WishlistChangedEvent(
+                        wishlist.getId(), wishlist.getUniqueSlug(), WishlistChangedEvent.Type.CREATED)));
+            });
+            result.setImported(result.getImported() + wishlists.size());
+        } catch (RuntimeException e) {
+            toSave.forEach(row -> addError(result, row.line, "Chunk rejected by database: " + e.getMessage()));
+        }
+    }
+
+    private static String validate(CreateWishlistRequest request) {
+        if (request.getOwnerName() == null || request.getOwnerName().isBlank()) {
+            return "Owner name is required";
+        }
+        if (request.getCategory() == null) {
+            return "Category is required";
+        }
+        if (request.getNote() != null && request.getNote().length() > 1000) {
+            return "Note is longer than 1000 characters";
+        }
+        if (request.getItems() != null) {
+            for (ItemDTO item : request.getItems()) {
+                if (item.getItemName() == null || item.getItemName().isBlank()) {
+                    return "Item name is required";
+                }
+                if (item.getDescription() != null && item.getDescription().length() > 300) {
+                    return "Item description is longer than 300 characters";
+                }
+                if (item.getShopLink() != null && item.getShopLink().length() > 1000) {
+                    return "Shop link is longer than 1000 characters";
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Wishlist toEntity(CreateWishlistRequest request, String slug) {
+        Wishlist wishlist = new Wishlist();
+        wishlist.setOwnerName(request.getOwnerName());
+        wishlist.setNote(request.getNote());
+        wishlist.setCategory(request.getCategory());
+        wishlist.setUniqueSlug(slug);
+        if (request.getItems() != null) {
+            for (ItemDTO itemDTO : request.getItems()) {
+                WishlistItem item = new WishlistItem();
+                item.setItemName(itemDTO.getItemName());
+                item.setDescription(itemDTO.getDescription());
+                item.setShopLink(itemDTO.getShopLink());
+                item.setWishlist(wishlist);
+                wishlist.getItems().add(item);
+            }
+        }
+        return wishlist;
+    }
+
+    private static Map<String, Integer> readHeader(CsvReader reader) throws IOException {
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new RuntimeException("CSV input is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+        return columns;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static User.UserCategory category(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return User.UserCategory.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unknown category: " + value);
+        }
+    }
+
+    private static boolean isBlank(List<String> fields) {
+        return fields.stream().allMatch(String::isBlank);
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void addError(ImportResultDTO result, int line, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new ImportResultDTO.RowError(line, message));
+        }
+    }
+
+    private static class Row<T> {
+        final int line;
+        final T value;
+
+        Row(int line, T value) {
+            this.line = line;
+            this.value = value;
+        }
+    }
+}
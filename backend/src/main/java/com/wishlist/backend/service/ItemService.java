@@ -1,23 +1,32 @@
 package com.wishlist.backend.service;
 
+import com.wishlist.backend.dto.BulkItemRequest;
 import com.wishlist.backend.dto.ItemDTO;
+import com.wishlist.backend.dto.ItemOperationDTO;
+import com.wishlist.backend.event.WishlistChangedEvent;
 import com.wishlist.backend.model.Wishlist;
 import com.wishlist.backend.model.WishlistItem;
 import com.wishlist.backend.repository.ItemRepository;
 import com.wishlist.backend.repository.WishlistRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 public class ItemService {
     
     private final ItemRepository itemRepository;
     private final WishlistRepository wishlistRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     public List<ItemDTO> getItemsByWishlistId(Long wishlistId) {
         return itemRepository.findByWishlistId(wishlistId).stream()
@@ -35,8 +44,10 @@ public class ItemService {
         item.setItemName(itemDTO.getItemName());
         item.setShopLink(itemDTO.getShopLink());
         item.setWishlist(wishlist);
+        wishlist.getItems().add(item);
         
         WishlistItem saved = itemRepository.save(item);
+        publishChange(wishlist);
         return convertToDTO(saved);
     }
     
@@ -50,6 +61,7 @@ public class ItemService {
         item.setShopLink(itemDTO.getShopLink());
         
         WishlistItem updated = itemRepository.save(item);
+        publishChange(item.getWishlist());
         return convertToDTO(updated);
     }
     
@@ -57,10 +69,88 @@ public class ItemService {
     public void deleteItem(Long itemId) {
         WishlistItem item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new RuntimeException("Item not found"));
+        // Removing it from the collection as well evicts the cached wishlist-items-by-wishlist entry;
+        // compare by id, since Lombok equals on entities walks the wishlist <-> items cycle
+        item.getWishlist().getItems().removeIf(existing -> existing.getId() != null && existing.getId().equals(itemId));
         itemRepository.delete(item);
+        publishChange(item.getWishlist());
     }
     
-    private ItemDTO convertToDTO(WishlistItem item) {
+    /**
+     * Applies a list of add/update/delete operations to one wishlist in a single transaction.
+     * New items are persisted together so their inserts go out as one JDBC batch.
+     * Returns the wishlist's items after all operations.
+     */
+    @Transactional
+    public List<ItemDTO> applyItemOperations(String slug, BulkItemRequest request) {
+        Wishlist wishlist = wishlistRepository.findByUniqueSlug(slug)
+                .orElseThrow(() -> new RuntimeException("Wishlist not found"));
+        if (request.getOperations() == null || request.getOperations().isEmpty()) {
+            throw new RuntimeException("No item operations given");
+        }
+        
+        List<WishlistItem> added = new ArrayList<>();
+        for (ItemOperationDTO operation : request.getOperations()) {
+            if (operation.getOp() == null) {
+                throw new RuntimeException("Item operation type is required");
+            }
+            switch (operation.getOp()) {
+                case ADD -> {
+                    requireItemName(operation);
+                    WishlistItem item = new WishlistItem();
+                    item.setItemName(operation.getItemName());
+                    item.setDescription(operation.getDescription());
+                    item.setShopLink(operation.getShopLink());
+                    item.setWishlist(wishlist);
+                    wishlist.getItems().add(item);
+                    added.add(item);
+                }
+                case UPDATE -> {
+                    requireItemName(operation);
+                    WishlistItem item = findItemInWishlist(wishlist, operation.getId());
+                    item.setItemName(operation.getItemName());
+                    item.setDescription(operation.getDescription());
+                    item.setShopLink(operation.getShopLink());
+                }
+                case DELETE -> {
+                    WishlistItem item = findItemInWishlist(wishlist, operation.getId());
+                    // Compare by id: Lombok equals on entities walks the wishlist <-> items cycle
+                    wishlist.getItems().removeIf(existing -> existing.getId() != null && existing.getId().equals(item.getId()));
+                }
+            }
+        }
+        
+        itemRepository.saveAll(added);
+        publishChange(wishlist);
+        
+        List<ItemDTO> result = new ArrayList<>();
+        for (WishlistItem item : wishlist.getItems()) {
+            result.add(convertToDTO(item));
+        }
+        return result;
+    }
+    
+    private WishlistItem findItemInWishlist(Wishlist wishlist, Long itemId) {
+        return wishlist.getItems().stream()
+                .filter(item -> item.getId() != null && item.getId().equals(itemId))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Item not found in this wishlist: " + itemId));
+    }
+    
+    private void requireItemName(ItemOperationDTO operation) {
+        if (operation.getItemName() == null || operation.getItemName().isBlank()) {
+            throw new RuntimeException("Item name is required");
+        }
+    }
+    
+    private void publishChange(Wishlist wishlist) {
+        // Item changes must move the parent's updatedAt too, since it drives the wishlist ETag
+        wishlist.setUpdatedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new WishlistChangedEvent(
+                wishlist.getId(), wishlist.getUniqueSlug(), WishlistChangedEvent.Type.UPDATED));
+    }
+    
+    ItemDTO convertToDTO(WishlistItem item) {
         ItemDTO dto = new ItemDTO();
         dto.setId(item.getId());
         dto.setItemName(item.getItemName());
@@ -0,0 +1,74 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.dto.PageDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Shared helpers for the paginated and keyset listing endpoints.
+ */
+final class Paging {
+
+    static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = "\u0000";
+
+    private Paging() {}
+
+    static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Parses "field" or "field,asc|desc" against a whitelist and always appends id as a tie-breaker
+     * so page boundaries stay stable.
+     */
+    static Sort parseSort(String sort, Set<String> allowedFields, String defaultField) {
+        String field = defaultField;
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (sort != null && !sort.isBlank()) {
+            String[] parts = sort.split(",");
+            if (!allowedFields.contains(parts[0].trim())) {
+                throw new RuntimeException("Unsupported sort field: " + parts[0].trim());
+            }
+            field = parts[0].trim();
+            if (parts.length > 1) {
+                direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                        .orElseThrow(() -> new RuntimeException("Unsupported sort direction: " + parts[1].trim()));
+            }
+        }
+        return Sort.by(direction, field).and(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    static <T> PageDTO<T> toPageDTO(Page<?> page, List<T> content) {
+        PageDTO<T> dto = new PageDTO<>();
+        dto.setContent(content);
+        dto.setPage(page.getNumber());
+        dto.setSize(page.getSize());
+        dto.setTotalElements(page.getTotalElements());
+        dto.setTotalPages(page.getTotalPages());
+        return dto;
+    }
+
+    static String encodeCursor(String... parts) {
+        String raw = String.join(CURSOR_SEPARATOR, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decodeCursor(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(CURSOR_SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException();
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+}
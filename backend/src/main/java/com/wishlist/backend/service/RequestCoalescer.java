@@ -0,0 +1,89 @@
+package com.wishlist.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Single-flight execution of identical reads: while a load for a name and key is running,
+ * concurrent callers wait for its result instead of hitting the database themselves.
+ * Nothing is kept once the load finishes. Callers that joined a load get the same instance as the one that
+ * ran it, unless a copier is given. Calls are counted in {@code app.coalescer.calls}
+ * tagged with the flight name and whether the caller executed or joined the load.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestCoalescer {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public <V> V execute(String name, Object key, Supplier<V> loader) {
+        return execute(name, key, loader, UnaryOperator.identity());
+    }
+
+    /**
+     * Like {@link #execute(String, Object, Supplier)}, but every caller that joined the load gets
+     * {@code copier} applied to the result, so mutable values are never shared between callers.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String name, Object key, Supplier<V> loader, UnaryOperator<V> copier) {
+        List<Object> flightKey = List.of(name, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            counter(name, "coalesced").increment();
+            return copier.apply((V) await(existing));
+        }
+
+        counter(name, "executed").increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * Detaches a running load so later callers start a fresh one, e.g. after the data it reads has changed.
+     * Callers already waiting still get the detached result.
+     */
+    public void forget(String name, Object key) {
+        inFlight.remove(List.of(name, key));
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String name, String result) {
+        return Counter.builder("app.coalescer.calls")
+                .description("Reads executed versus joined to an identical in-flight read")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
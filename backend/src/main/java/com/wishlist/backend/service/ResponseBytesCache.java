@@ -0,0 +1,190 @@
+package com.wishlist.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wishlist.backend.event.WishlistChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized JSON bodies of hot read endpoints, stored together with their gzip and deflate encodings
+ * and keyed by the data version (the endpoint's ETag). A hit is a copy of stored bytes in the encoding
+ * the client accepts, with no Jackson or compression work; a new version rebuilds the entry on the next read.
+ * Deflate is rarely asked for when gzip is offered, so it is only built on first use.
+ */
+@Component
+public class ResponseBytesCache {
+
+    public static final String ALL_WISHLISTS = "wishlists";
+    public static final String ALL_SUMMARIES = "wishlistSummaries";
+    private static final String WISHLIST_PREFIX = "wishlist:";
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+
+    private final Cache<String, Entry> cache;
+    private final JsonMapper jsonMapper;
+    private final long maxBytes;
+    private final int minCompressSize;
+
+    public ResponseBytesCache(
+            @Value("${app.cache.response.max-bytes:33554432}") long maxBytes,
+            @Value("${app.cache.response.min-compress-size:1024}") int minCompressSize,
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Entry entry) -> entry.weight())
+                .recordStats()
+                .build();
+        this.jsonMapper = jsonMapper;
+        this.maxBytes = maxBytes;
+        this.minCompressSize = minCompressSize;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "responseBytes");
+    }
+
+    public static String wishlistKey(String slug) {
+        return WISHLIST_PREFIX + slug;
+    }
+
+    /**
+     * Builds the 200 response for {@code key}, serving the stored entry when it is at {@code version} and loading
+     * the body otherwise. A loaded body is stored and sent under the ETag it was read at, which can be older than
+     * {@code version} when the load was shared with an earlier request. The ETag is weak because the same version
+     * is sent in several encodings.
+     */
+    public ResponseEntity<byte[]> respond(String key, String version, String acceptEncoding,
+                                          Supplier<? extends Versioned<?>> load) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null || !entry.version.equals(version)) {
+            Versioned<?> loaded = load.get();
+            entry = encode(loaded.getETag(), jsonMapper.writeValueAsBytes(loaded.getBody()));
+            // Caffeine would evict an entry heavier than the whole cache right away, so it is not stored at all
+            if (entry.weight() <= maxBytes) {
+                // A racing writer may store an older version; the next reader sees the mismatch and rebuilds
+                cache.put(key, entry);
+            }
+        }
+
+        String encoding = entry.gzip != null ? negotiate(acceptEncoding) : null;
+        byte[] bytes = GZIP.equals(encoding) ? entry.gzip : DEFLATE.equals(encoding) ? entry.deflate() : entry.identity;
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag("W/\"" + entry.version + "\"")
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(bytes.length)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (encoding != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        return response.body(bytes);
+    }
+
+    // Versioned entries are never served stale; this only frees deleted or renamed wishlists early
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        cache.invalidate(wishlistKey(event.getSlug()));
+    }
+
+    private Entry encode(String version, byte[] identity) {
+        if (identity.length < minCompressSize) {
+            return new Entry(version, identity, null);
+        }
+        return new Entry(version, identity, compress(identity, GZIPOutputStream::new));
+    }
+
+    /**
+     * Picks gzip, then deflate, from the Accept-Encoding header; null means identity.
+     */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        boolean deflate = false;
+        for (String part : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (isRefused(tokens)) {
+                continue;
+            }
+            if (coding.equals(GZIP) || coding.equals("*")) {
+                return GZIP;
+            }
+            deflate |= coding.equals(DEFLATE);
+        }
+        return deflate ? DEFLATE : null;
+    }
+
+    private static boolean isRefused(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static byte[] compress(byte[] bytes, CompressorFactory factory) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4);
+        try (OutputStream out = factory.open(buffer)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface CompressorFactory {
+        OutputStream open(OutputStream target) throws IOException;
+    }
+
+    private static class Entry {
+        final String version;
+        final byte[] identity;
+        final byte[] gzip;
+        private volatile byte[] deflate;
+
+        Entry(String version, byte[] identity, byte[] gzip) {
+            this.version = version;
+            this.identity = identity;
+            this.gzip = gzip;
+        }
+
+        // Two racing first requests may both compress; either result is correct
+        byte[] deflate() {
+            byte[] bytes = deflate;
+            if (bytes == null) {
+                bytes = compress(identity, DeflaterOutputStream::new);
+                deflate = bytes;
+            }
+            return bytes;
+        }
+
+        // Weighed once on insert, so room for deflate is reserved up front; it is a few bytes smaller than gzip
+        int weight() {
+            return identity.length + (gzip != null ? 2 * gzip.length : 0);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.wishlist.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs the reloads of an in-memory view on one background thread. Change listeners only queue ids, so they
+ * return without taking a second database connection while the committing request still holds its own;
+ * doing that synchronously deadlocks once every pooled connection belongs to such a request.
+ * Ids queued while a reload runs are picked up by the next one, so bursts become one batched load, and
+ * because one thread loads and applies, an older load never overwrites a newer one.
+ */
+@Slf4j
+final class SerialRefresher {
+
+    private final String name;
+    private final Executor executor;
+    private final Consumer<Collection<Long>> reload;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    SerialRefresher(String name, Executor executor, Consumer<Collection<Long>> reload) {
+        this.name = name;
+        this.executor = executor;
+        this.reload = reload;
+    }
+
+    static Executor singleThread(String name) {
+        return Executors.newSingleThreadExecutor(Thread.ofPlatform().name(name).daemon().factory());
+    }
+
+    /**
+     * Queues ids for reloading and returns immediately.
+     */
+    void submit(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        pending.addAll(ids);
+        executor.execute(this::drain);
+    }
+
+    /**
+     * Runs a task in order with the reloads and waits for it, e.g. a full rebuild.
+     */
+    void runAndWait(Runnable task) {
+        CompletableFuture.runAsync(task, executor).join();
+    }
+
+    /**
+     * Stops the background thread and gives a running reload a moment to finish, e.g. before the database
+     * goes away on shutdown.
+     */
+    void close() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdownNow();
+            try {
+                service.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void drain() {
+        List<Long> ids = new ArrayList<>();
+        // Removed one by one, so an id queued again meanwhile stays for the next run
+        for (Iterator<Long> it = pending.iterator(); it.hasNext(); ) {
+            ids.add(it.next());
+            it.remove();
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            reload.accept(ids);
+        } catch (RuntimeException e) {
+            log.error("{} reload of {} wishlists failed; the view stays stale until they change again",
+                    name, ids.size(), e);
+        }
+    }
+}
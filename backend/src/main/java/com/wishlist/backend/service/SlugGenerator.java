@@ -0,0 +1,115 @@
+package com.wishlist.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Generates wishlist slugs that are unique by construction, so no existence check is needed before insert.
+ *
+ * The suffix is a 64-bit id made of milliseconds since {@link #EPOCH} (41 bits), a node id (10 bits)
+ * and a per-millisecond sequence (12 bits), encoded in base 36. Ids never repeat on one node, and
+ * instances with distinct node ids never produce the same id. A single instance uses node id 0 by default.
+ * With {@code app.multi-instance=true} every instance must set its own {@code app.node-id}, and startup fails
+ * without one: a derived id could collide between instances and turn into failed inserts.
+ */
+@Slf4j
+@Component
+public class SlugGenerator {
+
+    static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int MAX_BASE_LENGTH = 60;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_SLUG = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern EDGE_DASHES = Pattern.compile("^-+|-+$");
+
+    // Letters that NFD does not decompose into base letter + combining mark
+    private static final Map<Character, String> TRANSLITERATIONS = Map.ofEntries(
+            Map.entry('ß', "ss"), Map.entry('æ', "ae"), Map.entry('œ', "oe"), Map.entry('ø', "o"),
+            Map.entry('ł', "l"), Map.entry('đ', "d"), Map.entry('ð', "d"), Map.entry('þ', "th"),
+            Map.entry('ı', "i"));
+
+    private final long nodeId;
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    @Autowired
+    public SlugGenerator(
+            @Value("${app.node-id:-1}") long configuredNodeId,
+            @Value("${app.multi-instance:false}") boolean multiInstance) {
+        if (configuredNodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("app.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        if (configuredNodeId < 0 && multiInstance) {
+            throw new IllegalStateException("app.node-id must be set to a distinct value between 0 and "
+                    + MAX_NODE_ID + " on every instance when app.multi-instance is true");
+        }
+        this.nodeId = Math.max(configuredNodeId, 0);
+        log.info("Slug generator node id: {}", nodeId);
+    }
+
+    SlugGenerator(long nodeId) {
+        this(nodeId, false);
+    }
+
+    public String generate(String ownerName) {
+        String base = normalize(ownerName);
+        String suffix = Long.toString(nextId(), 36);
+        return base.isEmpty() ? "wishlist-" + suffix : base + "-" + suffix;
+    }
+
+    synchronized long nextId() {
+        long timestamp = System.currentTimeMillis();
+        // If the clock moved backwards, keep issuing from the last timestamp instead of reusing ids
+        if (timestamp < lastTimestamp) {
+            timestamp = lastTimestamp;
+        }
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // Sequence exhausted for this millisecond; borrow the next one
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder transliterated = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            String replacement = TRANSLITERATIONS.get(c);
+            if (replacement != null) {
+                transliterated.append(replacement);
+            } else {
+                transliterated.append(c);
+            }
+        }
+        String ascii = DIACRITICS.matcher(Normalizer.normalize(transliterated, Normalizer.Form.NFD)).replaceAll("");
+        String slug = EDGE_DASHES.matcher(NON_SLUG.matcher(ascii).replaceAll("-")).replaceAll("");
+        if (slug.length() > MAX_BASE_LENGTH) {
+            slug = EDGE_DASHES.matcher(slug.substring(0, MAX_BASE_LENGTH)).replaceAll("");
+        }
+        return slug;
+    }
+}
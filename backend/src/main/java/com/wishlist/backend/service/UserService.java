@@ -1,33 +1,70 @@
 package com.wishlist.backend.service;
 
+import com.wishlist.backend.dto.CursorPageDTO;
+import com.wishlist.backend.dto.PageDTO;
 import com.wishlist.backend.dto.RegisterUserRequest;
 import com.wishlist.backend.dto.UpdateUserRequest;
 import com.wishlist.backend.dto.UserDTO;
 import com.wishlist.backend.model.User;
 import com.wishlist.backend.repository.UserRepository;
+import com.wishlist.backend.repository.UserViewRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 public class UserService {
     
+    private static final Set<String> SORTABLE_FIELDS = Set.of("fullName", "category", "createdAt");
+
     private final UserRepository userRepository;
+    private final UserViewRepository userViewRepository;
     
     public List<UserDTO> getAllUsers() {
-        return userRepository.findAllByOrderByFullNameAsc().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return userViewRepository.findAllOrderByFullName();
+    }
+    
+    public PageDTO<UserDTO> getUsersPage(int page, int size, String sort) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Paging.clampSize(size),
+                Paging.parseSort(sort, SORTABLE_FIELDS, "fullName"));
+        List<UserDTO> content = userViewRepository.findPage(
+                pageRequest.getSort(), pageRequest.getOffset(), pageRequest.getPageSize());
+        return Paging.toPageDTO(new PageImpl<>(content, pageRequest, userViewRepository.count()), content);
+    }
+    
+    public CursorPageDTO<UserDTO> getUsersAfter(String cursor, int size) {
+        int limit = Paging.clampSize(size);
+        List<UserDTO> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = userViewRepository.findFirstPage(limit);
+        } else {
+            String[] parts = Paging.decodeCursor(cursor, 2);
+            try {
+                users = userViewRepository.findPageAfter(parts[0], Long.parseLong(parts[1]), limit);
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("Invalid cursor");
+            }
+        }
+        
+        CursorPageDTO<UserDTO> dto = new CursorPageDTO<>();
+        dto.setContent(users);
+        if (users.size() == limit) {
+            UserDTO last = users.get(users.size() - 1);
+            dto.setNextCursor(Paging.encodeCursor(last.getFullName(), String.valueOf(last.getId())));
+        }
+        return dto;
     }
     
     public List<UserDTO> getUsersByCategory(User.UserCategory category) {
-        return userRepository.findByCategory(category).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return userViewRepository.findByCategory(category);
     }
     
     @Transactional
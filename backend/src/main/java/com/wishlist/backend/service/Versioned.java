@@ -0,0 +1,12 @@
+package com.wishlist.backend.service;
+
+import lombok.Value;
+
+/**
+ * A body together with the ETag of the data it was read from, so the two can never come from different reads.
+ */
+@Value
+public class Versioned<T> {
+    String eTag;
+    T body;
+}
@@ -0,0 +1,98 @@
+package com.wishlist.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.wishlist.backend.dto.WishlistDTO;
+import com.wishlist.backend.event.WishlistChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of assembled {@link WishlistDTO}s keyed by unique slug.
+ * Entries are evicted by size and TTL, and invalidated after any committed change to the wishlist.
+ * Concurrent misses for the same slug share one load through {@link RequestCoalescer}.
+ * Entries are stored as frozen copies and every caller gets its own copy, so no caller can change
+ * what the cache or another caller sees.
+ */
+@Component
+public class WishlistCache {
+
+    private static final String FLIGHT = "wishlistBySlug";
+
+    private final Cache<String, WishlistDTO> cache;
+    private final RequestCoalescer coalescer;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public WishlistCache(
+            @Value("${app.cache.wishlist.maximum-size:1000}") long maximumSize,
+            @Value("${app.cache.wishlist.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry,
+            RequestCoalescer coalescer) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.coalescer = coalescer;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, FLIGHT);
+    }
+
+    public WishlistDTO get(String slug, Function<String, WishlistDTO> loader) {
+        WishlistDTO cached = cache.getIfPresent(slug);
+        if (cached != null) {
+            return DtoCopies.copy(cached);
+        }
+
+        return coalescer.execute(FLIGHT, slug, () -> {
+            long before = invalidations.get();
+            WishlistDTO loaded = loader.apply(slug);
+            cache.put(slug, DtoCopies.frozen(loaded));
+            // A change committed while we were loading may have been missed by the loader
+            if (invalidations.get() != before) {
+                cache.invalidate(slug);
+            }
+            return loaded;
+        }, DtoCopies::copy);
+    }
+
+    /**
+     * ETag of the cached entry without copying it or counting a hit; null if not cached.
+     */
+    public String eTagIfPresent(String slug) {
+        WishlistDTO cached = cache.policy().getIfPresentQuietly(slug);
+        return cached != null ? ETags.forWishlist(cached.getId(), cached.getUpdatedAt()) : null;
+    }
+
+    public void invalidate(String slug) {
+        invalidations.incrementAndGet();
+        cache.invalidate(slug);
+        // Later readers must not join a load that may predate the change
+        coalescer.forget(FLIGHT, slug);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        invalidate(event.getSlug());
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("evictions", stats.evictionCount());
+        result.put("hitRate", stats.hitRate());
+        return result;
+    }
+}
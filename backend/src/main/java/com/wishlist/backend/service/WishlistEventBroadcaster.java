@@ -0,0 +1,199 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.event.HomeSnapshotUpdatedEvent;
+import com.wishlist.backend.event.WishlistChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pushes committed {@link WishlistChangedEvent}s to Server-Sent Events subscribers,
+ * either for one wishlist slug or for all wishlists (the home list). The home channel hears of a change only
+ * once {@link WishlistHomeSnapshot} serves it, so the refetch it triggers never gets the previous summaries.
+ *
+ * Every subscriber has a small bounded queue drained by its own virtual thread, so a slow connection never
+ * delays the others; a subscriber whose queue overflows is disconnected and is expected to reconnect and refetch.
+ * Idle connections get a heartbeat comment so proxies keep them open and dead ones are noticed.
+ */
+@Slf4j
+@Component
+public class WishlistEventBroadcaster implements DisposableBean {
+
+    private static final String ALL = "*";
+    private static final String EVENT_NAME = "wishlist-changed";
+
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final ConcurrentHashMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Supplier<SseEmitter> emitters;
+    private final Executor senders;
+    private final Counter dropped;
+
+    @Autowired
+    public WishlistEventBroadcaster(
+            @Value("${app.sse.timeout:30m}") Duration timeout,
+            @Value("${app.sse.queue-capacity:32}") int queueCapacity,
+            @Value("${app.sse.max-subscribers:2000}") int maxSubscribers,
+            MeterRegistry meterRegistry) {
+        this(queueCapacity, maxSubscribers, meterRegistry,
+                () -> new SseEmitter(timeout.toMillis()), Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    WishlistEventBroadcaster(int queueCapacity, int maxSubscribers, MeterRegistry meterRegistry,
+                             Supplier<SseEmitter> emitters, Executor senders) {
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.emitters = emitters;
+        this.senders = senders;
+        Gauge.builder("app.sse.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open Server-Sent Events connections")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("app.sse.dropped")
+                .description("Subscribers disconnected because they fell behind")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String slug) {
+        return register(slug);
+    }
+
+    public SseEmitter subscribeAll() {
+        return register(ALL);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        publish(subscribers.get(event.getSlug()), message(event));
+    }
+
+    @EventListener
+    public void onHomeSnapshotUpdated(HomeSnapshotUpdatedEvent event) {
+        publish(subscribers.get(ALL), message(event.getChange()));
+    }
+
+    @Scheduled(fixedRateString = "${app.sse.heartbeat-interval:15000}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> message = SseEmitter.event().comment("heartbeat").build();
+        subscribers.values().forEach(channel -> publish(channel, message));
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.values().forEach(channel -> channel.forEach(subscriber -> subscriber.emitter.complete()));
+        if (senders instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+
+    private SseEmitter register(String channel) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            // A 503 tells clients to back off and retry, unlike the 500 a plain exception would become
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many live update subscribers");
+        }
+        SseEmitter emitter = emitters.get();
+        Subscriber subscriber = new Subscriber(channel, emitter, new ArrayBlockingQueue<>(queueCapacity));
+        subscribers.compute(channel, (key, members) -> {
+            Set<Subscriber> channelMembers = members != null ? members : ConcurrentHashMap.newKeySet();
+            channelMembers.add(subscriber);
+            return channelMembers;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        // Flush the response headers right away so the client knows the stream is open
+        publish(Set.of(subscriber), SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+
+    private static Set<ResponseBodyEmitter.DataWithMediaType> message(WishlistChangedEvent event) {
+        return SseEmitter.event().name(EVENT_NAME).data(event).build();
+    }
+
+    // Messages are built once and shared: an SseEventBuilder is not safe to build more than once
+    private void publish(Set<Subscriber> channel, Set<ResponseBodyEmitter.DataWithMediaType> message) {
+        if (channel == null) {
+            return;
+        }
+        for (Subscriber subscriber : channel) {
+            if (!subscriber.queue.offer(message)) {
+                log.debug("Dropping slow SSE subscriber on channel {}", subscriber.channel);
+                dropped.increment();
+                remove(subscriber);
+                subscriber.emitter.complete();
+                continue;
+            }
+            if (subscriber.draining.compareAndSet(false, true)) {
+                senders.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> message;
+            while ((message = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(message);
+            }
+        } catch (Exception e) {
+            // Client went away; the container reports it through onError/onCompletion as well
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // A message may have been queued after the last poll but before draining was cleared
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        // Atomic with the compute in register, so a channel is never dropped while someone joins it
+        subscribers.computeIfPresent(subscriber.channel, (key, channel) -> {
+            if (channel.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return channel.isEmpty() ? null : channel;
+        });
+    }
+
+    private static class Subscriber {
+        final String channel;
+        final SseEmitter emitter;
+        final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(String channel, SseEmitter emitter, BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue) {
+            this.channel = channel;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.dto.ItemDTO;
+import com.wishlist.backend.dto.WishlistDTO;
+import com.wishlist.backend.repository.WishlistViewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Streams every wishlist with its items to an output stream, one fixed-size chunk at a time.
+ * Chunks are read by keyset on id straight into DTOs through {@link WishlistViewRepository}, so memory stays
+ * constant regardless of table size and nothing is held in a persistence context.
+ */
+@Service
+@RequiredArgsConstructor
+public class WishlistExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String CSV_HEADER = "wishlist_id,owner_name,unique_slug,category,note,created_at,updated_at,"
+            + "item_id,item_name,description,shop_link";
+
+    private final WishlistViewRepository wishlistViewRepository;
+    private final JsonMapper jsonMapper;
+
+    public void exportNdjson(OutputStream out) throws IOException {
+        long lastId = 0;
+        List<WishlistDTO> chunk;
+        while (!(chunk = nextChunk(lastId)).isEmpty()) {
+            for (WishlistDTO wishlist : chunk) {
+                out.write(jsonMapper.writeValueAsBytes(wishlist));
+                out.write('\n');
+            }
+            out.flush();
+            lastId = chunk.get(chunk.size() - 1).getId();
+        }
+    }
+
+    public void exportCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long lastId = 0;
+        List<WishlistDTO> chunk;
+        while (!(chunk = nextChunk(lastId)).isEmpty()) {
+            for (WishlistDTO wishlist : chunk) {
+                String prefix = String.join(",",
+                        String.valueOf(wishlist.getId()),
+                        csv(wishlist.getOwnerName()),
+                        csv(wishlist.getUniqueSlug()),
+                        csv(wishlist.getCategory() != null ? wishlist.getCategory().name() : null),
+                        csv(wishlist.getNote()),
+                        csv(wishlist.getCreatedAt()),
+                        csv(wishlist.getUpdatedAt()));
+                // One row per item; wishlists without items still get a row
+                if (wishlist.getItems().isEmpty()) {
+                    writer.write(prefix + ",,,,\n");
+                }
+                for (ItemDTO item : wishlist.getItems()) {
+                    writer.write(prefix + "," + item.getId() + "," + csv(item.getItemName()) + ","
+                            + csv(item.getDescription()) + "," + csv(item.getShopLink()) + "\n");
+                }
+            }
+            writer.flush();
+            lastId = chunk.get(chunk.size() - 1).getId();
+        }
+        writer.flush();
+    }
+
+    private List<WishlistDTO> nextChunk(long afterId) {
+        return wishlistViewRepository.findAfterId(afterId, CHUNK_SIZE);
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
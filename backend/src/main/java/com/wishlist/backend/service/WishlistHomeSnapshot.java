@@ -0,0 +1,198 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.dto.WishlistSummaryDTO;
+import com.wishlist.backend.event.HomeSnapshotUpdatedEvent;
+import com.wishlist.backend.event.WishlistChangedEvent;
+import com.wishlist.backend.model.User;
+import com.wishlist.backend.repository.WishlistViewRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Wishlist summaries held in memory, partitioned by category with per-category counts, for the home page.
+ * Built once at startup and patched from {@link WishlistChangedEvent}s. Every change publishes a new immutable
+ * {@link Snapshot} through a volatile field, copying only the partitions it touches, so readers never lock;
+ * the combined list is built on first read. All loads and updates run on one background thread through
+ * {@link SerialRefresher}, so they apply in order without a lock held across JDBC calls. Once a change is
+ * visible, a {@link HomeSnapshotUpdatedEvent} tells live home pages to refetch.
+ */
+@Component
+public class WishlistHomeSnapshot {
+
+    private static final Comparator<WishlistSummaryDTO> BY_ID = Comparator.comparing(WishlistSummaryDTO::getId);
+
+    private final WishlistViewRepository wishlistViewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SerialRefresher refresher;
+    // Changes not yet in a published snapshot; the latest per wishlist is enough to trigger a refetch
+    private final Map<Long, WishlistChangedEvent> unpublished = new ConcurrentHashMap<>();
+
+    // Part of every ETag, so versions from an earlier run never match
+    private final long generation = System.currentTimeMillis();
+    private volatile Snapshot current;
+
+    @Autowired
+    public WishlistHomeSnapshot(WishlistViewRepository wishlistViewRepository, ApplicationEventPublisher eventPublisher) {
+        this(wishlistViewRepository, eventPublisher, SerialRefresher.singleThread("home-snapshot-refresh"));
+    }
+
+    WishlistHomeSnapshot(WishlistViewRepository wishlistViewRepository, ApplicationEventPublisher eventPublisher,
+                         Executor refreshExecutor) {
+        this.wishlistViewRepository = wishlistViewRepository;
+        this.eventPublisher = eventPublisher;
+        this.refresher = new SerialRefresher("Home snapshot", refreshExecutor, this::reload);
+    }
+
+    public Snapshot get() {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            refresher.runAndWait(() -> {
+                if (current == null) {
+                    load();
+                }
+            });
+            snapshot = current;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Reloads every summary and waits until the new snapshot is published.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        refresher.runAndWait(this::load);
+    }
+
+    // Deleted wishlists are not found on reload and dropped, so every change type takes the same path
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        unpublished.put(event.getWishlistId(), event);
+        refresh(List.of(event.getWishlistId()));
+    }
+
+    /**
+     * Queues the given wishlists for reloading from the database; ids that no longer exist are dropped.
+     */
+    public void refresh(Collection<Long> ids) {
+        refresher.submit(ids);
+    }
+
+    @PreDestroy
+    public void close() {
+        refresher.close();
+    }
+
+    private void load() {
+        List<WishlistChangedEvent> changes = takeUnpublished(unpublished.keySet());
+        Map<User.UserCategory, List<WishlistSummaryDTO>> partitions = new EnumMap<>(User.UserCategory.class);
+        for (User.UserCategory category : User.UserCategory.values()) {
+            partitions.put(category, new ArrayList<>());
+        }
+        for (WishlistSummaryDTO summary : wishlistViewRepository.findAllSummariesOrderByCategory()) {
+            partitions.get(summary.getCategory()).add(summary);
+        }
+        partitions.replaceAll((category, partition) -> List.copyOf(partition));
+        long version = current != null ? current.getVersion() + 1 : 0;
+        publish(Snapshot.of(generation, version, partitions), changes);
+    }
+
+    private void reload(Collection<Long> ids) {
+        if (current == null) {
+            load();
+            return;
+        }
+        // Taken before the load: each of these was committed before it was queued, so the load sees it
+        List<WishlistChangedEvent> changes = takeUnpublished(ids);
+        Set<Long> changed = new HashSet<>(ids);
+        List<WishlistSummaryDTO> replacements = wishlistViewRepository.findSummariesByIds(ids);
+        Snapshot base = current;
+
+        // Only partitions that lose or gain a wishlist are copied; the rest are shared with the previous snapshot
+        Map<User.UserCategory, List<WishlistSummaryDTO>> touched = new EnumMap<>(User.UserCategory.class);
+        base.getByCategory().forEach((category, partition) -> {
+            if (partition.stream().anyMatch(summary -> changed.contains(summary.getId()))) {
+                List<WishlistSummaryDTO> kept = new ArrayList<>(partition);
+                kept.removeIf(summary -> changed.contains(summary.getId()));
+                touched.put(category, kept);
+            }
+        });
+        for (WishlistSummaryDTO summary : replacements) {
+            touched.computeIfAbsent(summary.getCategory(), category -> new ArrayList<>(base.getCategory(category)))
+                    .add(summary);
+        }
+
+        Map<User.UserCategory, List<WishlistSummaryDTO>> partitions = new EnumMap<>(base.getByCategory());
+        touched.forEach((category, partition) -> {
+            partition.sort(BY_ID);
+            partitions.put(category, List.copyOf(partition));
+        });
+        publish(Snapshot.of(generation, base.getVersion() + 1, partitions), changes);
+    }
+
+    private List<WishlistChangedEvent> takeUnpublished(Collection<Long> ids) {
+        List<WishlistChangedEvent> changes = new ArrayList<>();
+        for (Long id : List.copyOf(ids)) {
+            WishlistChangedEvent change = unpublished.remove(id);
+            if (change != null) {
+                changes.add(change);
+            }
+        }
+        return changes;
+    }
+
+    private void publish(Snapshot snapshot, List<WishlistChangedEvent> changes) {
+        current = snapshot;
+        changes.forEach(change -> eventPublisher.publishEvent(new HomeSnapshotUpdatedEvent(change)));
+    }
+
+    /**
+     * One immutable version of the home view. Summaries are ordered by category, then id.
+     */
+    @Value
+    public static class Snapshot {
+        String eTag;
+        long version;
+        Map<User.UserCategory, List<WishlistSummaryDTO>> byCategory;
+        Map<User.UserCategory, Integer> counts;
+        @Getter(lazy = true)
+        private final List<WishlistSummaryDTO> all = concat(byCategory);
+
+        // Partitions must already be immutable; they are shared, not copied
+        static Snapshot of(long generation, long version, Map<User.UserCategory, List<WishlistSummaryDTO>> partitions) {
+            Map<User.UserCategory, Integer> counts = new EnumMap<>(User.UserCategory.class);
+            partitions.forEach((category, partition) -> counts.put(category, partition.size()));
+            return new Snapshot(ETags.forSnapshot(generation, version), version,
+                    Collections.unmodifiableMap(new EnumMap<>(partitions)), Collections.unmodifiableMap(counts));
+        }
+
+        private static List<WishlistSummaryDTO> concat(Map<User.UserCategory, List<WishlistSummaryDTO>> byCategory) {
+            List<WishlistSummaryDTO> all = new ArrayList<>();
+            byCategory.values().forEach(all::addAll);
+            return List.copyOf(all);
+        }
+
+        public List<WishlistSummaryDTO> getCategory(User.UserCategory category) {
+            return byCategory.get(category);
+        }
+    }
+}
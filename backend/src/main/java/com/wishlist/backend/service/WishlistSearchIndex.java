@@ -0,0 +1,357 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.dto.WishlistSearchResultDTO;
+import com.wishlist.backend.event.WishlistChangedEvent;
+import com.wishlist.backend.model.User;
+import com.wishlist.backend.model.Wishlist;
+import com.wishlist.backend.model.WishlistItem;
+import com.wishlist.backend.repository.WishlistRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory inverted index over wishlist owner names, notes and item text.
+ * Terms of three or more characters are matched through trigram postings,
+ * shorter terms through token prefixes. Kept current from {@link WishlistChangedEvent}s, which are
+ * reloaded on a background thread through {@link SerialRefresher}.
+ */
+@Component
+public class WishlistSearchIndex {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final String PREFIX_MARKER = "^";
+    private static final int GRAM_SIZE = 3;
+
+    private final WishlistRepository wishlistRepository;
+    private final TransactionOperations readOnlyTransaction;
+    private final SerialRefresher refresher;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    @Autowired
+    public WishlistSearchIndex(WishlistRepository wishlistRepository, PlatformTransactionManager transactionManager) {
+        this(wishlistRepository, readOnly(transactionManager), SerialRefresher.singleThread("search-index-refresh"));
+    }
+
+    WishlistSearchIndex(WishlistRepository wishlistRepository, TransactionOperations readOnlyTransaction,
+                        Executor refreshExecutor) {
+        this.wishlistRepository = wishlistRepository;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.refresher = new SerialRefresher("Search index", refreshExecutor, this::reload);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        refresher.runAndWait(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            List<Wishlist> wishlists = wishlistRepository.findAllByOrderByCategoryAsc();
+            lock.writeLock().lock();
+            try {
+                documents.clear();
+                postings.clear();
+                wishlists.forEach(this::addDocument);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }));
+    }
+
+    // Deleted wishlists are not found on reload and dropped, so every change type takes the same path
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        refresher.submit(List.of(event.getWishlistId()));
+    }
+
+    @PreDestroy
+    public void close() {
+        refresher.close();
+    }
+
+    private void reload(Collection<Long> ids) {
+        List<Wishlist> wishlists = readOnlyTransaction.execute(status -> wishlistRepository.findWithItemsByIdIn(ids));
+        lock.writeLock().lock();
+        try {
+            ids.forEach(this::removeDocument);
+            wishlists.forEach(this::addDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns wishlists matching every term of the query, best matches first.
+     */
+    public List<WishlistSearchResultDTO> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int max = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            for (String term : terms) {
+                Set<Long> termCandidates = candidatesFor(term);
+                if (candidates == null) {
+                    candidates = new HashSet<>(termCandidates);
+                } else {
+                    candidates.retainAll(termCandidates);
+                }
+                if (candidates.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+
+            List<WishlistSearchResultDTO> results = new ArrayList<>();
+            for (Long id : candidates) {
+                WishlistSearchResultDTO result = score(documents.get(id), terms);
+                if (result != null) {
+                    results.add(result);
+                }
+            }
+            return results.stream()
+                    .sorted(Comparator.comparingInt(WishlistSearchResultDTO::getScore).reversed()
+                            .thenComparing(WishlistSearchResultDTO::getOwnerName, String.CASE_INSENSITIVE_ORDER))
+                    .limit(max)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of wishlists whose owner name contains {@code name}, ignoring case and accents, ordered by owner name.
+     * Only owner names are matched, as /api/wishlists/search always did; notes and items are for {@link #search}.
+     */
+    public List<Long> searchOwnerNames(String name) {
+        List<String> tokens = tokenize(name);
+        String needle = String.join(" ", tokens);
+
+        lock.readLock().lock();
+        try {
+            // Trigram postings narrow the scan; a shorter token can sit anywhere in a name, so check every document
+            Collection<Long> candidates = documents.keySet();
+            if (!tokens.isEmpty() && tokens.stream().allMatch(token -> token.length() >= GRAM_SIZE)) {
+                Set<Long> narrowed = null;
+                for (String token : tokens) {
+                    Set<Long> tokenCandidates = candidatesFor(token);
+                    if (narrowed == null) {
+                        narrowed = new HashSet<>(tokenCandidates);
+                    } else {
+                        narrowed.retainAll(tokenCandidates);
+                    }
+                }
+                candidates = narrowed;
+            }
+            return candidates.stream()
+                    .map(documents::get)
+                    .filter(doc -> doc.ownerKey.contains(needle))
+                    .sorted(Comparator.comparing((Document doc) -> doc.ownerName, String.CASE_INSENSITIVE_ORDER))
+                    .map(doc -> doc.id)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Long> candidatesFor(String term) {
+        List<String> keys = term.length() < GRAM_SIZE
+                ? new ArrayList<>(List.of(PREFIX_MARKER + term))
+                : new ArrayList<>(grams(term));
+
+        // Intersect starting from the rarest posting list
+        keys.sort(Comparator.comparingInt(key -> postings.getOrDefault(key, Set.of()).size()));
+        Set<Long> result = null;
+        for (String key : keys) {
+            Set<Long> posting = postings.getOrDefault(key, Set.of());
+            if (result == null) {
+                result = new HashSet<>(posting);
+            } else {
+                result.retainAll(posting);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result != null ? result : Set.of();
+    }
+
+    private WishlistSearchResultDTO score(Document doc, List<String> terms) {
+        int total = 0;
+        List<String> matchedItems = new ArrayList<>();
+        for (String term : terms) {
+            int score = 0;
+            if (doc.ownerKey.startsWith(term) || doc.ownerKey.contains(" " + term)) {
+                score += 10;
+            } else if (doc.ownerKey.contains(term)) {
+                score += 6;
+            }
+            for (int i = 0; i < doc.itemKeys.size(); i++) {
+                if (doc.itemKeys.get(i).contains(term)) {
+                    score += 4;
+                    if (!matchedItems.contains(doc.itemNames.get(i))) {
+                        matchedItems.add(doc.itemNames.get(i));
+                    }
+                }
+            }
+            if (doc.noteKey.contains(term)) {
+                score += 2;
+            }
+            for (String description : doc.descriptionKeys) {
+                if (description.contains(term)) {
+                    score += 1;
+                }
+            }
+            // Every term has to match somewhere; gram hits alone can be false positives
+            if (score == 0) {
+                return null;
+            }
+            total += score;
+        }
+
+        WishlistSearchResultDTO dto = new WishlistSearchResultDTO();
+        dto.setId(doc.id);
+        dto.setOwnerName(doc.ownerName);
+        dto.setUniqueSlug(doc.uniqueSlug);
+        dto.setCategory(doc.category);
+        dto.setItemCount(doc.itemNames.size());
+        dto.setMatchedItems(matchedItems);
+        dto.setScore(total);
+        return dto;
+    }
+
+    private void addDocument(Wishlist wishlist) {
+        Document doc = new Document(wishlist);
+        documents.put(doc.id, doc);
+        for (String key : doc.keys) {
+            postings.computeIfAbsent(key, k -> new HashSet<>()).add(doc.id);
+        }
+    }
+
+    private void removeDocument(Long wishlistId) {
+        Document doc = documents.remove(wishlistId);
+        if (doc == null) {
+            return;
+        }
+        for (String key : doc.keys) {
+            Set<Long> posting = postings.get(key);
+            if (posting != null) {
+                posting.remove(wishlistId);
+                if (posting.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new ArrayList<>();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(TOKEN_SEPARATOR.split(normalized))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static TransactionOperations readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private static String normalize(String text) {
+        return String.join(" ", tokenize(text));
+    }
+
+    private static Set<String> grams(String token) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= token.length(); i++) {
+            grams.add(token.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static class Document {
+        final Long id;
+        final String ownerName;
+        final String uniqueSlug;
+        final User.UserCategory category;
+        final String ownerKey;
+        final String noteKey;
+        final List<String> itemNames = new ArrayList<>();
+        final List<String> itemKeys = new ArrayList<>();
+        final List<String> descriptionKeys = new ArrayList<>();
+        final Set<String> keys = new HashSet<>();
+
+        Document(Wishlist wishlist) {
+            this.id = wishlist.getId();
+            this.ownerName = wishlist.getOwnerName();
+            this.uniqueSlug = wishlist.getUniqueSlug();
+            this.category = wishlist.getCategory();
+            this.ownerKey = normalize(wishlist.getOwnerName());
+            this.noteKey = normalize(wishlist.getNote());
+            addKeys(wishlist.getOwnerName());
+            addKeys(wishlist.getNote());
+            for (WishlistItem item : wishlist.getItems()) {
+                itemNames.add(item.getItemName());
+                itemKeys.add(normalize(item.getItemName()));
+                descriptionKeys.add(normalize(item.getDescription()));
+                addKeys(item.getItemName());
+                addKeys(item.getDescription());
+            }
+        }
+
+        private void addKeys(String text) {
+            for (String token : tokenize(text)) {
+                keys.add(PREFIX_MARKER + token.substring(0, 1));
+                if (token.length() > 1) {
+                    keys.add(PREFIX_MARKER + token.substring(0, 2));
+                }
+                keys.addAll(grams(token));
+            }
+        }
+    }
+}
@@ -1,58 +1,167 @@
 package com.wishlist.backend.service;
 
 import com.wishlist.backend.dto.CreateWishlistRequest;
+import com.wishlist.backend.dto.CursorPageDTO;
 import com.wishlist.backend.dto.ItemDTO;
+import com.wishlist.backend.dto.PageDTO;
 import com.wishlist.backend.dto.UpdateWishlistRequest;
 import com.wishlist.backend.dto.WishlistDTO;
+import com.wishlist.backend.dto.WishlistSearchResultDTO;
+import com.wishlist.backend.dto.WishlistSummaryDTO;
+import com.wishlist.backend.event.WishlistChangedEvent;
 import com.wishlist.backend.model.User;
 import com.wishlist.backend.model.Wishlist;
 import com.wishlist.backend.model.WishlistItem;
+import com.wishlist.backend.repository.WishlistCollectionVersion;
 import com.wishlist.backend.repository.WishlistRepository;
+import com.wishlist.backend.repository.WishlistViewRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 public class WishlistService {
     
+    private static final Set<String> SORTABLE_FIELDS = Set.of("category", "ownerName", "createdAt", "updatedAt");
+    private static final String ALL_WISHLISTS = "allWishlists";
+
     private final WishlistRepository wishlistRepository;
+    private final WishlistViewRepository wishlistViewRepository;
+    private final WishlistSearchIndex searchIndex;
+    private final WishlistHomeSnapshot homeSnapshot;
+    private final WishlistCache wishlistCache;
+    private final SlugGenerator slugGenerator;
+    private final RequestCoalescer coalescer;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public List<WishlistDTO> getAllWishlists() {
-        return wishlistRepository.findAllByOrderByCategoryAsc().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    /**
+     * All wishlists with the collection ETag they were read at. The version is read first, so a commit in between
+     * can only pair newer rows with an older ETag, which the next request reloads; never the other way round.
+     * List views read DTOs straight from JDBC rows; entities are only loaded for single-wishlist reads and writes.
+     */
+    public Versioned<List<WishlistDTO>> getAllWishlists() {
+        return coalescer.execute(ALL_WISHLISTS, ALL_WISHLISTS,
+                () -> {
+                    String eTag = getCollectionETag();
+                    return new Versioned<>(eTag, wishlistViewRepository.findAllOrderByCategory());
+                },
+                loaded -> new Versioned<>(loaded.getETag(), DtoCopies.copy(loaded.getBody())));
+    }
+    
+    public PageDTO<WishlistDTO> getWishlistsPage(int page, int size, String sort) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Paging.clampSize(size),
+                Paging.parseSort(sort, SORTABLE_FIELDS, "category"));
+        List<WishlistDTO> content = wishlistViewRepository.findPage(
+                pageRequest.getSort(), pageRequest.getOffset(), pageRequest.getPageSize());
+        return Paging.toPageDTO(new PageImpl<>(content, pageRequest, wishlistViewRepository.count()), content);
+    }
+    
+    public CursorPageDTO<WishlistDTO> getWishlistsAfter(String cursor, int size) {
+        return walkCategories(cursor, size, wishlistViewRepository::findByCategoryAfterId,
+                WishlistDTO::getCategory, WishlistDTO::getId);
+    }
+    
+    // Summary reads come from the in-memory snapshot and never touch the database
+    public WishlistHomeSnapshot.Snapshot getHomeSnapshot() {
+        return homeSnapshot.get();
+    }
+    
+    public List<WishlistSummaryDTO> getAllWishlistSummaries() {
+        return homeSnapshot.get().getAll();
+    }
+    
+    public List<WishlistSummaryDTO> getWishlistSummariesByCategory(User.UserCategory category) {
+        return homeSnapshot.get().getCategory(category);
+    }
+    
+    public PageDTO<WishlistSummaryDTO> getWishlistSummariesPage(int page, int size, String sort) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Paging.clampSize(size),
+                Paging.parseSort(sort, SORTABLE_FIELDS, "category"));
+        List<WishlistSummaryDTO> content = wishlistViewRepository.findSummaryPage(
+                pageRequest.getSort(), pageRequest.getOffset(), pageRequest.getPageSize());
+        return Paging.toPageDTO(new PageImpl<>(content, pageRequest, wishlistViewRepository.count()), content);
+    }
+    
+    public CursorPageDTO<WishlistSummaryDTO> getWishlistSummariesAfter(String cursor, int size) {
+        return walkCategories(cursor, size, wishlistViewRepository::findSummariesByCategoryAfterId,
+                WishlistSummaryDTO::getCategory, WishlistSummaryDTO::getId);
     }
     
     public List<WishlistDTO> getWishlistsByCategory(User.UserCategory category) {
-        return wishlistRepository.findByCategory(category).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return wishlistViewRepository.findByCategory(category);
     }
     
     public WishlistDTO getWishlistBySlug(String slug) {
-        Wishlist wishlist = wishlistRepository.findByUniqueSlug(slug)
-                .orElseThrow(() -> new RuntimeException("Wishlist not found"));
-        return convertToDTO(wishlist);
+        return wishlistCache.get(slug, key -> {
+            Wishlist wishlist = wishlistRepository.findByUniqueSlug(key)
+                    .orElseThrow(() -> new RuntimeException("Wishlist not found"));
+            return convertToDTO(wishlist);
+        });
+    }
+    
+    /**
+     * ETag of the wishlist as currently stored, without loading its items; null if it does not exist.
+     */
+    public String getWishlistETag(String slug) {
+        String cached = wishlistCache.eTagIfPresent(slug);
+        if (cached != null) {
+            return cached;
+        }
+        return wishlistRepository.findVersionByUniqueSlug(slug)
+                .map(version -> ETags.forWishlist(version.getId(),
+                        version.getUpdatedAt() != null ? version.getUpdatedAt().toString() : null))
+                .orElse(null);
+    }
+    
+    public String getCollectionETag() {
+        WishlistCollectionVersion version = wishlistRepository.findCollectionVersion();
+        return ETags.forCollection(version.getCount(), version.getLastUpdated());
+    }
+    
+    public Map<String, Object> getCacheStats() {
+        return wishlistCache.stats();
     }
     
     public List<WishlistDTO> searchWishlistsByName(String name) {
-        return wishlistRepository.findByOwnerNameContainingIgnoreCase(name).stream()
-                .map(this::convertToDTO)
+        List<Long> ids = searchIndex.searchOwnerNames(name);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        // Keep the index order (by owner name) rather than the database order
+        Map<Long, WishlistDTO> byId = wishlistViewRepository.findByIds(ids).stream()
+                .collect(Collectors.toMap(WishlistDTO::getId, Function.identity()));
+        return ids.stream()
+                .filter(byId::containsKey)
+                .map(byId::get)
                 .collect(Collectors.toList());
     }
     
+    public List<WishlistSearchResultDTO> search(String query, int limit) {
+        return searchIndex.search(query, limit);
+    }
+    
     @Transactional
     public WishlistDTO createWishlist(CreateWishlistRequest request) {
         Wishlist wishlist = new Wishlist();
         wishlist.setOwnerName(request.getOwnerName());
         wishlist.setNote(request.getNote());
         wishlist.setCategory(request.getCategory());
-        wishlist.setUniqueSlug(generateUniqueSlug(request.getOwnerName()));
+        wishlist.setUniqueSlug(slugGenerator.generate(request.getOwnerName()));
         
         // Add items
         if (request.getItems() != null) {
@@ -67,6 +176,8 @@ public class WishlistService {
         }
         
         Wishlist saved = wishlistRepository.save(wishlist);
+        eventPublisher.publishEvent(new WishlistChangedEvent(
+                saved.getId(), saved.getUniqueSlug(), WishlistChangedEvent.Type.CREATED));
         return convertToDTO(saved);
     }
     
@@ -77,6 +188,8 @@ public class WishlistService {
         
         wishlist.setNote(request.getNote());
         Wishlist updated = wishlistRepository.save(wishlist);
+        eventPublisher.publishEvent(new WishlistChangedEvent(
+                updated.getId(), updated.getUniqueSlug(), WishlistChangedEvent.Type.UPDATED));
         return convertToDTO(updated);
     }
         
@@ -85,24 +198,68 @@ public class WishlistService {
         Wishlist wishlist = wishlistRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Wishlist not found with id: " + id));
         wishlistRepository.delete(wishlist);
+        eventPublisher.publishEvent(new WishlistChangedEvent(
+                wishlist.getId(), wishlist.getUniqueSlug(), WishlistChangedEvent.Type.DELETED));
     }
     
-    private String generateUniqueSlug(String ownerName) {
-        String baseSlug = ownerName.toLowerCase()
-                .replaceAll("[^a-z0-9\\s-]", "")
-                .replaceAll("\\s+", "-");
-        
-        String slug = baseSlug + "-" + UUID.randomUUID().toString().substring(0, 6);
+    // Later readers must not join a list load that may predate the change
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        coalescer.forget(ALL_WISHLISTS, ALL_WISHLISTS);
+    }
+    
+    /**
+     * Keyset pagination over (category, id), one category at a time so every query is an index range scan.
+     */
+    private <T> CursorPageDTO<T> walkCategories(String cursor, int size, CategoryPageLoader<T> loader,
+                                                Function<T, User.UserCategory> categoryOf, Function<T, Long> idOf) {
+        int limit = Paging.clampSize(size);
+        User.UserCategory startCategory = User.UserCategory.values()[0];
+        long afterId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = Paging.decodeCursor(cursor, 2);
+            try {
+                startCategory = User.UserCategory.valueOf(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Invalid cursor");
+            }
+        }
         
-        // Ensure uniqueness
-        while (wishlistRepository.existsByUniqueSlug(slug)) {
-            slug = baseSlug + "-" + UUID.randomUUID().toString().substring(0, 6);
+        List<T> content = new ArrayList<>();
+        for (User.UserCategory category : User.UserCategory.values()) {
+            if (category.ordinal() < startCategory.ordinal()) {
+                continue;
+            }
+            long fromId = category == startCategory ? afterId : 0;
+            content.addAll(loader.load(category, fromId, limit - content.size()));
+            if (content.size() == limit) {
+                break;
+            }
         }
         
-        return slug;
+        CursorPageDTO<T> dto = new CursorPageDTO<>();
+        dto.setContent(content);
+        if (content.size() == limit) {
+            T last = content.get(content.size() - 1);
+            dto.setNextCursor(Paging.encodeCursor(categoryOf.apply(last).name(), String.valueOf(idOf.apply(last))));
+        }
+        return dto;
+    }
+    
+    @FunctionalInterface
+    private interface CategoryPageLoader<T> {
+        List<T> load(User.UserCategory category, long afterId, int limit);
+    }
+    
+    WishlistDTO convertToDTO(Wishlist wishlist) {
+        List<ItemDTO> itemDTOs = wishlist.getItems().stream()
+                .map(item -> convertItemToDTO(item, wishlist.getId()))
+                .collect(Collectors.toList());
+        return convertToDTO(wishlist, itemDTOs);
     }
     
-    private WishlistDTO convertToDTO(Wishlist wishlist) {
+    private WishlistDTO convertToDTO(Wishlist wishlist, List<ItemDTO> itemDTOs) {
         WishlistDTO dto = new WishlistDTO();
         dto.setId(wishlist.getId());
         dto.setOwnerName(wishlist.getOwnerName());
@@ -111,22 +268,18 @@ public class WishlistService {
         dto.setCategory(wishlist.getCategory());
         dto.setCreatedAt(wishlist.getCreatedAt() != null ? wishlist.getCreatedAt().toString() : null);
         dto.setUpdatedAt(wishlist.getUpdatedAt() != null ? wishlist.getUpdatedAt().toString() : null);
-        
-        List<ItemDTO> itemDTOs = wishlist.getItems().stream()
-                .map(this::convertItemToDTO)
-                .collect(Collectors.toList());
         dto.setItems(itemDTOs);
         
         return dto;
     }
     
-    private ItemDTO convertItemToDTO(WishlistItem item) {
+    private ItemDTO convertItemToDTO(WishlistItem item, Long wishlistId) {
         ItemDTO dto = new ItemDTO();
         dto.setId(item.getId());
         dto.setItemName(item.getItemName());
         dto.setDescription(item.getDescription());  // ADDED
         dto.setShopLink(item.getShopLink());
-        dto.setWishlistId(item.getWishlist().getId());
+        dto.setWishlistId(wishlistId);
         return dto;
     }
 }
\ No newline at end of file
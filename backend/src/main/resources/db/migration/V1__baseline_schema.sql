@@ -0,0 +1,40 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update).
+-- Existing databases are baselined at version 1, so this only runs on an empty schema.
+
+CREATE TABLE users (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    full_name  VARCHAR(255) NOT NULL,
+    category   ENUM('ADULT', 'KID', 'PET') NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_full_name UNIQUE (full_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE wishlists (
+    id          BIGINT NOT NULL,
+    owner_name  VARCHAR(255) NOT NULL,
+    unique_slug VARCHAR(255) NOT NULL,
+    note        VARCHAR(1000),
+    category    ENUM('ADULT', 'KID', 'PET') NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_wishlists_unique_slug UNIQUE (unique_slug)
+) ENGINE = InnoDB;
+
+CREATE TABLE wishlist_items (
+    id          BIGINT NOT NULL,
+    wishlist_id BIGINT NOT NULL,
+    item_name   VARCHAR(255) NOT NULL,
+    description VARCHAR(300),
+    shop_link   VARCHAR(1000),
+    created_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_wishlist_items_wishlist FOREIGN KEY (wishlist_id) REFERENCES wishlists (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE site_settings (
+    setting_key VARCHAR(255) NOT NULL,
+    value       TEXT,
+    PRIMARY KEY (setting_key)
+) ENGINE = InnoDB;
@@ -0,0 +1,14 @@
+-- findAllByOrderByCategoryAsc, findByCategory and the per-category keyset pages (category, id > ?)
+CREATE INDEX idx_wishlists_category_id ON wishlists (category, id);
+
+-- Owner lookups during bulk import
+CREATE INDEX idx_wishlists_owner_name ON wishlists (owner_name);
+
+-- MAX(updated_at) for the collection ETag
+CREATE INDEX idx_wishlists_updated_at ON wishlists (updated_at);
+
+-- findByWishlistId and the batched item load (wishlist_id IN (...) ORDER BY id)
+CREATE INDEX idx_wishlist_items_wishlist_id_id ON wishlist_items (wishlist_id, id);
+
+-- findByCategory on users; findAllByOrderByFullNameAsc is served by the unique full_name index
+CREATE INDEX idx_users_category_full_name ON users (category, full_name);
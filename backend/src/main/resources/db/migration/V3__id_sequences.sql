@@ -0,0 +1,23 @@
+-- Table-backed sequences for the pooled SEQUENCE ids of wishlists and wishlist items (allocationSize 50).
+-- The pooled optimizer hands out (next_val - 50, next_val], so next_val stays one block above MAX(id)
+-- to skip rows inserted while the entities still used IDENTITY.
+
+CREATE TABLE IF NOT EXISTS wishlists_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS wishlist_items_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO wishlists_seq (next_val)
+SELECT (SELECT COALESCE(MAX(id), 0) + 50 FROM wishlists) FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM wishlists_seq);
+
+INSERT INTO wishlist_items_seq (next_val)
+SELECT (SELECT COALESCE(MAX(id), 0) + 50 FROM wishlist_items) FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM wishlist_items_seq);
+
+UPDATE wishlists_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM wishlists));
+
+UPDATE wishlist_items_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM wishlist_items));
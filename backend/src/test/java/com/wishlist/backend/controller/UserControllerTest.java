@@ -0,0 +1,36 @@
+package com.wishlist.backend.controller;
+
+import com.wishlist.backend.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UserControllerTest {
+
+    private final UserService userService = mock(UserService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userService)).build();
+
+    @Test
+    void pageAndCursorTogetherAreRejected() throws Exception {
+        mockMvc.perform(get("/api/users").param("page", "0").param("cursor", "abc"))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).getUsersPage(0, 20, null);
+        verify(userService, never()).getUsersAfter("abc", 20);
+    }
+
+    @Test
+    void pageOrCursorAloneSelectsItsHandler() throws Exception {
+        mockMvc.perform(get("/api/users").param("page", "0")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/users").param("cursor", "abc")).andExpect(status().isOk());
+
+        verify(userService).getUsersPage(0, 20, null);
+        verify(userService).getUsersAfter("abc", 20);
+    }
+}
@@ -0,0 +1,99 @@
+package com.wishlist.backend.dto;
+
+import com.wishlist.backend.model.User;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The hand-written serializers must produce byte for byte what the default bean serializer does.
+ */
+class DtoSerializersTest {
+
+    private final JsonMapper beanMapper = JsonMapper.builder().build();
+    private final JsonMapper dtoMapper = JsonMapper.builder().addModule(DtoSerializers.module()).build();
+
+    @Test
+    void wishlistMatchesBeanSerialization() {
+        WishlistDTO full = wishlist(7L, "Zoë \"Z\" O'Brien", "line one\nline two ☃");
+        full.setItems(List.of(item(1L, 7L, "Lego"), item(2L, 7L, "Book </script>")));
+        WishlistDTO emptyItems = wishlist(8L, "Anna", null);
+        emptyItems.setItems(List.of());
+        WishlistDTO nullItems = wishlist(9L, "Ben", "note");
+        WishlistDTO nullItem = wishlist(10L, "Cleo", null);
+        nullItem.setItems(Arrays.asList(item(3L, 10L, "Kite"), null));
+
+        assertSameBytes(full);
+        assertSameBytes(emptyItems);
+        assertSameBytes(nullItems);
+        assertSameBytes(nullItem);
+        assertSameBytes(new WishlistDTO());
+        assertSameBytes(List.of(full, emptyItems, nullItems));
+    }
+
+    @Test
+    void itemMatchesBeanSerialization() {
+        ItemDTO item = item(1L, 2L, "Tent \t for été");
+        item.setDescription("4 person, \"waterproof\"");
+        item.setShopLink("https://shop.example.com/tent?size=4&color=green");
+
+        assertSameBytes(item);
+        assertSameBytes(new ItemDTO());
+    }
+
+    @Test
+    void summaryMatchesBeanSerialization() {
+        WishlistSummaryDTO summary = new WishlistSummaryDTO();
+        summary.setId(3L);
+        summary.setOwnerName("Rex");
+        summary.setUniqueSlug("rex-3");
+        summary.setCategory(User.UserCategory.PET);
+        summary.setItemCount(Long.MAX_VALUE);
+
+        assertSameBytes(summary);
+        assertSameBytes(new WishlistSummaryDTO());
+    }
+
+    @Test
+    void userMatchesBeanSerialization() {
+        UserDTO user = new UserDTO();
+        user.setId(4L);
+        user.setFullName("Łucja Kowalska");
+        user.setCategory(User.UserCategory.KID);
+        user.setCreatedAt("2025-12-24T18:00");
+
+        assertSameBytes(user);
+        assertSameBytes(new UserDTO());
+        assertSameBytes(new ArrayList<>(List.of(user, new UserDTO())));
+    }
+
+    private void assertSameBytes(Object value) {
+        String expected = beanMapper.writeValueAsString(value);
+        assertThat(dtoMapper.writeValueAsBytes(value)).as(expected).isEqualTo(beanMapper.writeValueAsBytes(value));
+    }
+
+    private static WishlistDTO wishlist(Long id, String ownerName, String note) {
+        WishlistDTO wishlist = new WishlistDTO();
+        wishlist.setId(id);
+        wishlist.setOwnerName(ownerName);
+        wishlist.setUniqueSlug("owner-" + id);
+        wishlist.setNote(note);
+        wishlist.setCategory(User.UserCategory.ADULT);
+        wishlist.setCreatedAt("2025-12-01T10:15:30");
+        wishlist.setUpdatedAt("2025-12-02T08:00:00.123456");
+        return wishlist;
+    }
+
+    private static ItemDTO item(Long id, Long wishlistId, String name) {
+        ItemDTO item = new ItemDTO();
+        item.setId(id);
+        item.setWishlistId(wishlistId);
+        item.setItemName(name);
+        return item;
+    }
+}
@@ -0,0 +1,55 @@
+package com.wishlist.backend.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryBudgetFilterTest {
+
+    private final QueryBudgetFilter filter = new QueryBudgetFilter(
+            new QueryInspector(Duration.ofMillis(200)), new SimpleMeterRegistry(),
+            20, Duration.ofMillis(500), true, List.of("/api/admin/export"));
+
+    @Test
+    void debugModeAddsQueryHeaders() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/wishlists"), response, chain);
+
+        assertThat(chain.getResponse()).isInstanceOf(ContentCachingResponseWrapper.class);
+        assertThat(response.getHeader("X-Query-Count")).isEqualTo("0");
+    }
+
+    @Test
+    void streamingExportIsNotBuffered() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/admin/export"), response, chain);
+
+        assertThat(chain.getResponse()).isSameAs(response);
+        assertThat(response.getHeader("X-Query-Count")).isNull();
+    }
+
+    @Test
+    void eventStreamIsNotBuffered() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/wishlists/events");
+        request.addHeader("Accept", MediaType.TEXT_EVENT_STREAM_VALUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getResponse()).isSameAs(response);
+    }
+}
@@ -0,0 +1,91 @@
+package com.wishlist.backend.repository;
+
+import com.wishlist.backend.model.User;
+import com.wishlist.backend.model.Wishlist;
+import com.wishlist.backend.model.WishlistItem;
+import com.wishlist.backend.monitoring.QueryInspector;
+import com.wishlist.backend.monitoring.QueryInspectorDataSourcePostProcessor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement counts for the entity read paths: items must arrive with their wishlists, never one query per wishlist.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryInspector.class, QueryInspectorDataSourcePostProcessor.class})
+class WishlistRepositoryQueryCountTest {
+
+    private static final int WISHLISTS = 10;
+    private static final int ITEMS_PER_WISHLIST = 3;
+
+    @Autowired
+    private WishlistRepository wishlistRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private QueryInspector queryInspector;
+
+    @BeforeEach
+    void seed() {
+        User.UserCategory[] categories = User.UserCategory.values();
+        for (int i = 0; i < WISHLISTS; i++) {
+            Wishlist wishlist = new Wishlist();
+            wishlist.setOwnerName("Owner " + i);
+            wishlist.setUniqueSlug("owner-" + i);
+            wishlist.setCategory(categories[i % categories.length]);
+            for (int j = 0; j < ITEMS_PER_WISHLIST; j++) {
+                WishlistItem item = new WishlistItem();
+                item.setItemName("Item " + j);
+                item.setWishlist(wishlist);
+                wishlist.getItems().add(item);
+            }
+            wishlistRepository.save(wishlist);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @AfterEach
+    void endCounting() {
+        queryInspector.end();
+    }
+
+    @Test
+    void findAllByOrderByCategoryAscLoadsItemsInOneStatement() {
+        QueryInspector.RequestQueryStats stats = queryInspector.begin();
+
+        List<Wishlist> wishlists = wishlistRepository.findAllByOrderByCategoryAsc();
+        int items = wishlists.stream().mapToInt(wishlist -> wishlist.getItems().size()).sum();
+
+        assertThat(wishlists).hasSize(WISHLISTS);
+        assertThat(items).isEqualTo(WISHLISTS * ITEMS_PER_WISHLIST);
+        assertThat(stats.getQueryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findByUniqueSlugLoadsItemsInOneStatement() {
+        QueryInspector.RequestQueryStats stats = queryInspector.begin();
+
+        Wishlist wishlist = wishlistRepository.findByUniqueSlug("owner-3").orElseThrow();
+        int items = wishlist.getItems().size();
+
+        assertThat(items).isEqualTo(ITEMS_PER_WISHLIST);
+        assertThat(stats.getQueryCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,120 @@
+package com.wishlist.backend.repository;
+
+import com.wishlist.backend.dto.ItemDTO;
+import com.wishlist.backend.dto.WishlistDTO;
+import com.wishlist.backend.dto.WishlistSummaryDTO;
+import com.wishlist.backend.model.User;
+import com.wishlist.backend.model.Wishlist;
+import com.wishlist.backend.model.WishlistItem;
+import com.wishlist.backend.monitoring.QueryInspector;
+import com.wishlist.backend.monitoring.QueryInspectorDataSourcePostProcessor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Row-mapped list reads: every wishlist gets exactly its own items or item count, in two statements.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({WishlistViewRepository.class, QueryInspector.class, QueryInspectorDataSourcePostProcessor.class})
+class WishlistViewRepositoryTest {
+
+    private static final int WISHLISTS = 9;
+
+    @Autowired
+    private WishlistViewRepository wishlistViewRepository;
+
+    @Autowired
+    private WishlistRepository wishlistRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private QueryInspector queryInspector;
+
+    @BeforeEach
+    void seed() {
+        User.UserCategory[] categories = User.UserCategory.values();
+        // Wishlist i has i items, so a mix-up between wishlists shows up in the counts
+        for (int i = 0; i < WISHLISTS; i++) {
+            Wishlist wishlist = new Wishlist();
+            wishlist.setOwnerName("Owner " + i);
+            wishlist.setUniqueSlug("owner-" + i);
+            wishlist.setCategory(categories[i % categories.length]);
+            for (int j = 0; j < i; j++) {
+                WishlistItem item = new WishlistItem();
+                item.setItemName("Item " + i + "-" + j);
+                item.setWishlist(wishlist);
+                wishlist.getItems().add(item);
+            }
+            wishlistRepository.save(wishlist);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void endCounting() {
+        queryInspector.end();
+    }
+
+    @Test
+    void findAllAttachesEachWishlistsOwnItems() {
+        QueryInspector.RequestQueryStats stats = queryInspector.begin();
+
+        List<WishlistDTO> wishlists = wishlistViewRepository.findAllOrderByCategory();
+
+        assertThat(stats.getQueryCount()).isEqualTo(2);
+        assertThat(wishlists).hasSize(WISHLISTS);
+        assertThat(wishlists).extracting(WishlistDTO::getCategory).isSorted();
+        for (WishlistDTO wishlist : wishlists) {
+            int index = Integer.parseInt(wishlist.getOwnerName().substring("Owner ".length()));
+            assertThat(wishlist.getItems()).hasSize(index);
+            assertThat(wishlist.getItems()).allMatch(item -> item.getWishlistId().equals(wishlist.getId()));
+            assertThat(wishlist.getItems()).extracting(ItemDTO::getId).isSorted();
+        }
+    }
+
+    @Test
+    void findByCategoryLoadsOnlyThatCategorysItems() {
+        QueryInspector.RequestQueryStats stats = queryInspector.begin();
+
+        List<WishlistDTO> kids = wishlistViewRepository.findByCategory(User.UserCategory.KID);
+
+        assertThat(stats.getQueryCount()).isEqualTo(2);
+        assertThat(kids).extracting(WishlistDTO::getOwnerName).containsExactly("Owner 1", "Owner 4", "Owner 7");
+        assertThat(kids).extracting(wishlist -> wishlist.getItems().size()).containsExactly(1, 4, 7);
+    }
+
+    @Test
+    void summariesCarryItemCounts() {
+        QueryInspector.RequestQueryStats stats = queryInspector.begin();
+
+        List<WishlistSummaryDTO> all = wishlistViewRepository.findAllSummariesOrderByCategory();
+
+        assertThat(stats.getQueryCount()).isEqualTo(2);
+        assertThat(all).hasSize(WISHLISTS);
+        for (WishlistSummaryDTO summary : all) {
+            int index = Integer.parseInt(summary.getOwnerName().substring("Owner ".length()));
+            assertThat(summary.getItemCount()).isEqualTo(index);
+        }
+
+        List<Long> someIds = all.stream().limit(3).map(WishlistSummaryDTO::getId).toList();
+        assertThat(wishlistViewRepository.findSummariesByIds(someIds))
+                .extracting(WishlistSummaryDTO::getId)
+                .containsExactlyInAnyOrderElementsOf(someIds);
+    }
+}
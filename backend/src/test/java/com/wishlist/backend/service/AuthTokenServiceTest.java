@@ -0,0 +1,173 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.dto.AuthTokenDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthTokenServiceTest {
+
+    private static final String SECRET = "test-secret-that-is-at-least-32-bytes-long";
+    private static final Duration TTL = Duration.ofHours(2);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-12-24T18:00:00Z"));
+    private MeterRegistry meterRegistry;
+    private AuthTokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenService = new AuthTokenService(SECRET, TTL, 100, meterRegistry, clock);
+    }
+
+    @Test
+    void issuedTokenVerifiesToTheSameUserAndRoles() {
+        AuthTokenDTO issued = tokenService.issue(login("admin", "ROLE_ADMIN", "ROLE_USER"));
+
+        Authentication verified = tokenService.verify(issued.getToken());
+
+        assertThat(issued.getUsername()).isEqualTo("admin");
+        assertThat(issued.getRoles()).containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThat(issued.getExpiresAt()).isEqualTo("2025-12-24T20:00:00Z");
+        assertThat(verified.isAuthenticated()).isTrue();
+        assertThat(verified.getName()).isEqualTo("admin");
+        assertThat(AuthorityUtils.authorityListToSet(verified.getAuthorities()))
+                .containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_USER");
+    }
+
+    @Test
+    void tokenWithoutRolesVerifies() {
+        Authentication verified = tokenService.verify(tokenService.issue(login("user")).getToken());
+
+        assertThat(verified.getName()).isEqualTo("user");
+        assertThat(verified.getAuthorities()).isEmpty();
+    }
+
+    @Test
+    void tamperedTokensAreRejected() {
+        String token = tokenService.issue(login("user", "ROLE_USER")).getToken();
+        String signature = token.substring(token.indexOf('.') + 1);
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("user|ROLE_ADMIN|" + clock.instant().plus(TTL).getEpochSecond()).getBytes(StandardCharsets.UTF_8));
+        char last = signature.charAt(signature.length() - 1);
+
+        assertThat(tokenService.verify(forgedPayload + "." + signature)).isNull();
+        assertThat(tokenService.verify(token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A'))).isNull();
+        assertThat(tokenService.verify(token.substring(0, token.indexOf('.') + 1))).isNull();
+        assertThat(tokenService.verify("." + signature)).isNull();
+        assertThat(tokenService.verify("not-a-token")).isNull();
+        assertThat(tokenService.verify("%%%.%%%")).isNull();
+    }
+
+    @Test
+    void tokenSignedWithAnotherSecretIsRejected() {
+        AuthTokenService other = new AuthTokenService(SECRET.toUpperCase(), TTL, 100, new SimpleMeterRegistry(), clock);
+
+        assertThat(tokenService.verify(other.issue(login("user", "ROLE_USER")).getToken())).isNull();
+    }
+
+    @Test
+    void expiredTokenIsRejectedEvenWhenCached() {
+        String token = tokenService.issue(login("user", "ROLE_USER")).getToken();
+        assertThat(tokenService.verify(token)).isNotNull();
+
+        clock.advance(TTL.minusSeconds(1));
+        assertThat(tokenService.verify(token)).isNotNull();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(tokenService.verify(token)).isNull();
+    }
+
+    @Test
+    void expiredTokenIsRejectedWhenNotCached() {
+        String token = tokenService.issue(login("user", "ROLE_USER")).getToken();
+
+        clock.advance(TTL.plusMinutes(1));
+
+        assertThat(tokenService.verify(token)).isNull();
+        assertThat(hits()).isZero();
+    }
+
+    @Test
+    void repeatVerificationHitsTheCacheAndReturnsAFreshAuthentication() {
+        String token = tokenService.issue(login("user", "ROLE_USER")).getToken();
+
+        Authentication first = tokenService.verify(token);
+        // A request mutating its own authentication must not leak into the next one
+        first.setAuthenticated(false);
+        ((UsernamePasswordAuthenticationToken) first).setDetails("request 1");
+        Authentication second = tokenService.verify(token);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getDetails()).isNull();
+        assertThat(hits()).isEqualTo(1);
+    }
+
+    @Test
+    void shortSecretIsRejected() {
+        assertThatThrownBy(() -> new AuthTokenService("too-short", TTL, 100, new SimpleMeterRegistry(), clock))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("at least 32 bytes");
+    }
+
+    @Test
+    void blankSecretFallsBackToARandomKey() {
+        AuthTokenService random = new AuthTokenService("", TTL, 100, new SimpleMeterRegistry(), clock);
+
+        String token = random.issue(login("user", "ROLE_USER")).getToken();
+
+        assertThat(random.verify(token)).isNotNull();
+        assertThat(tokenService.verify(token)).isNull();
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "verifiedTokens").tag("result", "hit")
+                .functionCounter().count();
+    }
+
+    private static Authentication login(String username, String... roles) {
+        return UsernamePasswordAuthenticationToken.authenticated(username, null, AuthorityUtils.createAuthorityList(roles));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.wishlist.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvReaderTest {
+
+    @Test
+    void splitsPlainFields() throws IOException {
+        CsvReader reader = reader("a,b,c\n");
+
+        assertThat(reader.next()).containsExactly("a", "b", "c");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        assertThat(reader(",x,\n").next()).containsExactly("", "x", "");
+    }
+
+    @Test
+    void quotedFieldsMayContainCommasAndDoubledQuotes() throws IOException {
+        assertThat(reader("\"Smith, Anna\",\"say \"\"hi\"\"\",plain\n").next())
+                .containsExactly("Smith, Anna", "say \"hi\"", "plain");
+    }
+
+    @Test
+    void quotedFieldsMaySpanLinesAndRecordLinesFollowTheInput() throws IOException {
+        CsvReader reader = reader("owner,note\nAnna,\"first line\nsecond line\"\nBen,short\n");
+
+        assertThat(reader.next()).containsExactly("owner", "note");
+        assertThat(reader.recordLine()).isEqualTo(1);
+        assertThat(reader.next()).containsExactly("Anna", "first line\nsecond line");
+        assertThat(reader.recordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("Ben", "short");
+        assertThat(reader.recordLine()).isEqualTo(4);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void unterminatedQuoteEndsAtEndOfInput() throws IOException {
+        CsvReader reader = reader("a,\"open\nrest");
+
+        assertThat(reader.next()).containsExactly("a", "open\nrest");
+        assertThat(reader.next()).isNull();
+    }
+
+    private static CsvReader reader(String input) {
+        return new CsvReader(new BufferedReader(new StringReader(input)));
+    }
+}
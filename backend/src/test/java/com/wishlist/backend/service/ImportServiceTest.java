@@ -0,0 +1,198 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.dto.ImportResultDTO;
+import com.wishlist.backend.event.WishlistChangedEvent;
+import com.wishlist.backend.model.User;
+import com.wishlist.backend.model.Wishlist;
+import com.wishlist.backend.repository.UserRepository;
+import com.wishlist.backend.repository.WishlistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImportServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final WishlistRepository wishlistRepository = mock(WishlistRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final List<Wishlist> saved = new ArrayList<>();
+    private ImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        AtomicLong ids = new AtomicLong();
+        when(wishlistRepository.findOwnerNamesIn(anyCollection())).thenReturn(List.of());
+        when(userRepository.findFullNamesIn(anyCollection())).thenReturn(List.of());
+        when(wishlistRepository.saveAll(any())).thenAnswer(invocation -> {
+            Iterable<Wishlist> wishlists = invocation.getArgument(0);
+            wishlists.forEach(wishlist -> {
+                wishlist.setId(ids.incrementAndGet());
+                saved.add(wishlist);
+            });
+            return wishlists;
+        });
+        importService = new ImportService(userRepository, wishlistRepository, new SlugGenerator(1),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), JsonMapper.builder().build(),
+                eventPublisher);
+    }
+
+    @Test
+    void csvRowsOfOneOwnerFormOneWishlist() throws IOException {
+        ImportResultDTO result = importService.importWishlists(input("""
+                Owner_Name,Category,Note,Item_Name,Description,Shop_Link
+                Anna,adult,"Sizes: M, L",Scarf,"Red, ""wool""\",
+                Anna,adult,,Gloves,,https://shop.example.com/gloves
+                Ben,kid,"line one
+                line two",Lego,,
+                """), true);
+
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).isEmpty();
+
+        Wishlist anna = saved.get(0);
+        assertThat(anna.getOwnerName()).isEqualTo("Anna");
+        assertThat(anna.getCategory()).isEqualTo(User.UserCategory.ADULT);
+        assertThat(anna.getNote()).isEqualTo("Sizes: M, L");
+        assertThat(anna.getItems()).extracting("itemName").containsExactly("Scarf", "Gloves");
+        assertThat(anna.getItems().get(0).getDescription()).isEqualTo("Red, \"wool\"");
+        assertThat(anna.getItems().get(1).getShopLink()).isEqualTo("https://shop.example.com/gloves");
+        assertThat(saved.get(1).getNote()).isEqualTo("line one\nline two");
+    }
+
+    @Test
+    void badCsvRowsAreReportedByLineWithoutStoppingTheImport() throws IOException {
+        ImportResultDTO result = importService.importWishlists(input("""
+                owner_name,category,item_name
+                Anna,adult,Scarf
+                Ben,dragon,Lego
+                Ben,dragon,Puzzle
+                ,kid,Ball
+                "Cleo
+                Smith",pet,Bone
+                Anna,kid,Book
+                """), true);
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors())
+                .extracting(ImportResultDTO.RowError::getLine, ImportResultDTO.RowError::getMessage)
+                .containsExactlyInAnyOrder(
+                        tuple(3, "Unknown category: dragon"),
+                        tuple(5, "Owner name is required"),
+                        tuple(8, "Duplicate wishlist owner in file: Anna"));
+        assertThat(saved).extracting(Wishlist::getOwnerName).containsExactly("Anna", "Cleo\nSmith");
+    }
+
+    @Test
+    void existingOwnersAreRejected() throws IOException {
+        when(wishlistRepository.findOwnerNamesIn(anyCollection())).thenReturn(List.of("anna"));
+
+        ImportResultDTO result = importService.importWishlists(input("""
+                {"ownerName":"Anna","category":"ADULT"}
+                {"ownerName":"Ben","category":"KID"}
+                """), false);
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(ImportResultDTO.RowError::getLine).containsExactly(1);
+    }
+
+    @Test
+    void invalidJsonLinesAreReported() throws IOException {
+        ImportResultDTO result = importService.importWishlists(input("""
+                {"ownerName":"Anna","category":"ADULT"}
+
+                {not json
+                """), false);
+
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.getLine()).isEqualTo(3);
+                    assertThat(error.getMessage()).startsWith("Invalid JSON");
+                });
+    }
+
+    @Test
+    void publishesOneCreatedEventPerImportedWishlist() throws IOException {
+        importService.importWishlists(input("""
+                owner_name,category
+                Anna,adult
+                Ben,kid
+                """), true);
+
+        ArgumentCaptor<WishlistChangedEvent> events = ArgumentCaptor.forClass(WishlistChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(WishlistChangedEvent::getWishlistId, WishlistChangedEvent::getType)
+                .containsExactly(
+                        tuple(1L, WishlistChangedEvent.Type.CREATED),
+                        tuple(2L, WishlistChangedEvent.Type.CREATED));
+    }
+
+    @Test
+    void rejectedChunkPublishesNothing() throws IOException {
+        doThrow(new RuntimeException("constraint violation")).when(wishlistRepository).saveAll(any());
+
+        ImportResultDTO result = importService.importWishlists(input("""
+                owner_name,category
+                Anna,adult
+                """), true);
+
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).contains("Chunk rejected"));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void userCsvReportsMissingAndUnknownValues() throws IOException {
+        ImportResultDTO result = importService.importUsers(input("""
+                full_name,category
+                Anna,adult
+                Ben,
+                Cleo,robot
+                """), true);
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors())
+                .extracting(ImportResultDTO.RowError::getLine, ImportResultDTO.RowError::getMessage)
+                .containsExactlyInAnyOrder(
+                        tuple(4, "Unknown category: robot"),
+                        tuple(3, "Category is required"));
+    }
+
+    @Test
+    void emptyCsvIsRejected() {
+        assertThatThrownBy(() -> importService.importUsers(input(""), true))
+                .hasMessage("CSV input is empty");
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
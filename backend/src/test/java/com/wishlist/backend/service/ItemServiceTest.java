@@ -0,0 +1,70 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.model.User;
+import com.wishlist.backend.model.Wishlist;
+import com.wishlist.backend.model.WishlistItem;
+import com.wishlist.backend.repository.ItemRepository;
+import com.wishlist.backend.repository.WishlistRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Item writes against the second-level cache: every step commits, so later transactions read what the cache holds.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemServiceTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private WishlistService wishlistService;
+
+    @Autowired
+    private WishlistRepository wishlistRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void deletingAnItemThenItsWishlistById() {
+        Wishlist saved = transactionTemplate.execute(status -> {
+            Wishlist wishlist = new Wishlist();
+            wishlist.setOwnerName("Item Delete");
+            wishlist.setUniqueSlug("item-delete");
+            wishlist.setCategory(User.UserCategory.ADULT);
+            for (int i = 0; i < 2; i++) {
+                WishlistItem item = new WishlistItem();
+                item.setItemName("Gift " + i);
+                item.setWishlist(wishlist);
+                wishlist.getItems().add(item);
+            }
+            return wishlistRepository.save(wishlist);
+        });
+        Long wishlistId = saved.getId();
+        Long deletedItemId = saved.getItems().get(0).getId();
+        // Puts the items collection into the second-level cache
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(wishlistRepository.findById(wishlistId).orElseThrow().getItems()).hasSize(2));
+
+        itemService.deleteItem(deletedItemId);
+
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(wishlistRepository.findById(wishlistId).orElseThrow().getItems())
+                        .extracting(WishlistItem::getId)
+                        .doesNotContain(deletedItemId)
+                        .hasSize(1));
+        wishlistService.deleteWishlistById(wishlistId);
+        assertThat(wishlistRepository.findById(wishlistId)).isEmpty();
+        assertThat(itemRepository.findByWishlistId(wishlistId)).isEmpty();
+    }
+}
@@ -0,0 +1,70 @@
+package com.wishlist.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PagingTest {
+
+    private static final Set<String> FIELDS = Set.of("category", "ownerName");
+
+    @Test
+    void clampSizeKeepsSizeWithinBounds() {
+        assertThat(Paging.clampSize(0)).isEqualTo(1);
+        assertThat(Paging.clampSize(-5)).isEqualTo(1);
+        assertThat(Paging.clampSize(20)).isEqualTo(20);
+        assertThat(Paging.clampSize(Paging.MAX_PAGE_SIZE + 1)).isEqualTo(Paging.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void parseSortDefaultsToAscendingDefaultFieldWithIdTieBreaker() {
+        Sort sort = Paging.parseSort(null, FIELDS, "category");
+
+        assertThat(sort).containsExactly(Sort.Order.asc("category"), Sort.Order.asc("id"));
+    }
+
+    @Test
+    void parseSortReadsFieldAndDirection() {
+        Sort sort = Paging.parseSort(" ownerName , desc ", FIELDS, "category");
+
+        assertThat(sort).containsExactly(Sort.Order.desc("ownerName"), Sort.Order.asc("id"));
+    }
+
+    @Test
+    void parseSortRejectsFieldsOutsideTheWhitelist() {
+        assertThatThrownBy(() -> Paging.parseSort("note", FIELDS, "category"))
+                .hasMessage("Unsupported sort field: note");
+        assertThatThrownBy(() -> Paging.parseSort("id; DROP TABLE wishlists", FIELDS, "category"))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void parseSortRejectsUnknownDirections() {
+        assertThatThrownBy(() -> Paging.parseSort("category,sideways", FIELDS, "category"))
+                .hasMessage("Unsupported sort direction: sideways");
+    }
+
+    @Test
+    void cursorRoundTripsIncludingSeparatorsInValues() {
+        String cursor = Paging.encodeCursor("Anna, Maria", "42");
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(Paging.decodeCursor(cursor, 2)).containsExactly("Anna, Maria", "42");
+    }
+
+    @Test
+    void cursorKeepsEmptyParts() {
+        assertThat(Paging.decodeCursor(Paging.encodeCursor("", "7"), 2)).containsExactly("", "7");
+    }
+
+    @Test
+    void decodeCursorRejectsGarbageAndWrongArity() {
+        assertThatThrownBy(() -> Paging.decodeCursor("not base64!", 2)).hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> Paging.decodeCursor(Paging.encodeCursor("a", "b", "c"), 2))
+                .hasMessage("Invalid cursor");
+    }
+}
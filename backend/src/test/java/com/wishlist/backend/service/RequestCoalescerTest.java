@@ -0,0 +1,135 @@
+package com.wishlist.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(meterRegistry);
+
+    @Test
+    void concurrentCallersShareOneLoadAndGetCopies() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<List<String>> leader = executor.submit(() -> coalescer.execute("test", "k", () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return new ArrayList<>(List.of("value"));
+            }, ArrayList::new));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<List<String>>> joined = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                joined.add(executor.submit(() -> coalescer.execute("test", "k", () -> {
+                    loads.incrementAndGet();
+                    return new ArrayList<>(List.of("other"));
+                }, ArrayList::new)));
+            }
+            waitForJoined(3);
+            release.countDown();
+
+            List<String> leaderValue = leader.get(5, TimeUnit.SECONDS);
+            for (Future<List<String>> future : joined) {
+                List<String> value = future.get(5, TimeUnit.SECONDS);
+                assertThat(value).containsExactly("value");
+                assertThat(value).isNotSameAs(leaderValue);
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failureIsRethrownToEveryCaller() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = executor.submit(() -> coalescer.execute("test", "k", () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalStateException("boom");
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Object> joined = executor.submit(() -> coalescer.execute("test", "k", () -> "unused"));
+            waitForJoined(1);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> joined.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void nothingIsKeptAfterTheLoadFinishes() {
+        AtomicInteger loads = new AtomicInteger();
+        coalescer.execute("test", "k", loads::incrementAndGet);
+        coalescer.execute("test", "k", loads::incrementAndGet);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void forgetLetsLaterCallersStartAFreshLoad() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> stale = executor.submit(() -> coalescer.execute("test", "k", () -> {
+                started.countDown();
+                await(release);
+                return "stale";
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            coalescer.forget("test", "k");
+            assertThat(coalescer.execute("test", "k", () -> "fresh")).isEqualTo("fresh");
+
+            release.countDown();
+            assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void waitForJoined(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(coalescedCount()).isEqualTo(expected);
+    }
+
+    private double coalescedCount() {
+        var counter = meterRegistry.find("app.coalescer.calls").tag("result", "coalesced").counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.wishlist.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseBytesCacheTest {
+
+    private static final List<String> BODY = List.of("a".repeat(600), "b".repeat(600));
+    private static final String JSON = "[\"" + "a".repeat(600) + "\",\"" + "b".repeat(600) + "\"]";
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void negotiatePrefersGzipThenDeflate() {
+        assertThat(ResponseBytesCache.negotiate(null)).isNull();
+        assertThat(ResponseBytesCache.negotiate("")).isNull();
+        assertThat(ResponseBytesCache.negotiate("identity")).isNull();
+        assertThat(ResponseBytesCache.negotiate("deflate, gzip")).isEqualTo("gzip");
+        assertThat(ResponseBytesCache.negotiate("GZIP")).isEqualTo("gzip");
+        assertThat(ResponseBytesCache.negotiate("br, deflate")).isEqualTo("deflate");
+        assertThat(ResponseBytesCache.negotiate("*")).isEqualTo("gzip");
+    }
+
+    @Test
+    void negotiateHonoursZeroAndInvalidQuality() {
+        assertThat(ResponseBytesCache.negotiate("gzip;q=0, deflate")).isEqualTo("deflate");
+        assertThat(ResponseBytesCache.negotiate("gzip; q=0.0")).isNull();
+        assertThat(ResponseBytesCache.negotiate("gzip;q=0.5")).isEqualTo("gzip");
+        assertThat(ResponseBytesCache.negotiate("gzip;q=abc, deflate;q=1")).isEqualTo("deflate");
+        assertThat(ResponseBytesCache.negotiate("*;q=0")).isNull();
+    }
+
+    @Test
+    void servesStoredBytesInEveryEncoding() throws IOException {
+        ResponseBytesCache cache = cache(1 << 20);
+
+        ResponseEntity<byte[]> plain = cache.respond("key", "v1", null, () -> load("v1"));
+        ResponseEntity<byte[]> gzip = cache.respond("key", "v1", "gzip", () -> load("v1"));
+        ResponseEntity<byte[]> deflate = cache.respond("key", "v1", "deflate", () -> load("v1"));
+
+        assertThat(loads).hasValue(1);
+        assertThat(new String(plain.getBody())).isEqualTo(JSON);
+        assertThat(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(inflate(new GZIPInputStream(new ByteArrayInputStream(gzip.getBody())))).isEqualTo(JSON);
+        assertThat(deflate.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("deflate");
+        assertThat(inflate(new InflaterInputStream(new ByteArrayInputStream(deflate.getBody())))).isEqualTo(JSON);
+        assertThat(plain.getHeaders().getETag()).isEqualTo("W/\"v1\"");
+    }
+
+    @Test
+    void smallBodiesAreNotCompressed() {
+        ResponseBytesCache cache = cache(1 << 20);
+
+        ResponseEntity<byte[]> response = cache.respond("key", "v1", "gzip", () -> new Versioned<>("v1", "tiny"));
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(new String(response.getBody())).isEqualTo("\"tiny\"");
+    }
+
+    @Test
+    void entryIsStoredUnderTheVersionTheBodyWasReadAt() {
+        ResponseBytesCache cache = cache(1 << 20);
+
+        // The caller checked v2, but the body it got came from a load that read v1
+        ResponseEntity<byte[]> response = cache.respond("key", "v2", null, () -> load("v1"));
+        cache.respond("key", "v2", null, () -> load("v2"));
+        cache.respond("key", "v2", null, () -> load("v2"));
+
+        assertThat(response.getHeaders().getETag()).isEqualTo("W/\"v1\"");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void bodiesLargerThanTheCacheAreServedButNotStored() {
+        ResponseBytesCache cache = cache(100);
+
+        ResponseEntity<byte[]> first = cache.respond("key", "v1", null, () -> load("v1"));
+        cache.respond("key", "v1", null, () -> load("v1"));
+
+        assertThat(new String(first.getBody())).isEqualTo(JSON);
+        assertThat(loads).hasValue(2);
+    }
+
+    private ResponseBytesCache cache(long maxBytes) {
+        return new ResponseBytesCache(maxBytes, 1024, JsonMapper.builder().build(), new SimpleMeterRegistry());
+    }
+
+    private Versioned<List<String>> load(String version) {
+        loads.incrementAndGet();
+        return new Versioned<>(version, BODY);
+    }
+
+    private static String inflate(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes());
+        }
+    }
+}
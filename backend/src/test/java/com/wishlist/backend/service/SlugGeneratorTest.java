@@ -0,0 +1,91 @@
+package com.wishlist.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SlugGeneratorTest {
+
+    @Test
+    void idPacksTimestampNodeAndSequence() {
+        long before = System.currentTimeMillis();
+        long id = new SlugGenerator(5).nextId();
+        long after = System.currentTimeMillis();
+
+        long timestamp = (id >>> 22) + SlugGenerator.EPOCH;
+        assertThat(timestamp).isBetween(before, after + 1);
+        assertThat((id >>> 12) & 1023).isEqualTo(5);
+        assertThat(id).isPositive();
+    }
+
+    @Test
+    void idsAreIncreasingAndUniqueWithinOneMillisecondAndBeyond() {
+        SlugGenerator generator = new SlugGenerator(1);
+        Set<Long> ids = new HashSet<>();
+        long previous = -1;
+        // More than one millisecond's worth of sequence numbers, so the overflow path is exercised
+        for (int i = 0; i < 20_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            ids.add(id);
+            previous = id;
+        }
+        assertThat(ids).hasSize(20_000);
+    }
+
+    @Test
+    void distinctNodesNeverShareIds() {
+        SlugGenerator first = new SlugGenerator(1);
+        SlugGenerator second = new SlugGenerator(2);
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 5_000; i++) {
+            ids.add(first.nextId());
+            ids.add(second.nextId());
+        }
+        assertThat(ids).hasSize(10_000);
+    }
+
+    @Test
+    void nodeIdIsValidated() {
+        assertThatThrownBy(() -> new SlugGenerator(1024)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SlugGenerator(-1, true)).isInstanceOf(IllegalStateException.class);
+        assertThat((new SlugGenerator(-1, false).nextId() >>> 12) & 1023).isZero();
+        assertThat((new SlugGenerator(7, true).nextId() >>> 12) & 1023).isEqualTo(7);
+    }
+
+    @Test
+    void normalizeTransliteratesAndStripsAccents() {
+        assertThat(SlugGenerator.normalize("José Ñuñez")).isEqualTo("jose-nunez");
+        assertThat(SlugGenerator.normalize("Łukasz Straße")).isEqualTo("lukasz-strasse");
+        assertThat(SlugGenerator.normalize("Bjørn Ærø Œuvre")).isEqualTo("bjorn-aero-oeuvre");
+        assertThat(SlugGenerator.normalize("Þór Đorđe")).isEqualTo("thor-dorde");
+        assertThat(SlugGenerator.normalize("Zoë Brontë-Smith")).isEqualTo("zoe-bronte-smith");
+    }
+
+    @Test
+    void normalizeCollapsesSeparatorsAndTrimsDashes() {
+        assertThat(SlugGenerator.normalize("  Juan Dela Cruz Jr. ")).isEqualTo("juan-dela-cruz-jr");
+        assertThat(SlugGenerator.normalize("--a__b!!c--")).isEqualTo("a-b-c");
+        assertThat(SlugGenerator.normalize("李小龍")).isEmpty();
+        assertThat(SlugGenerator.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void normalizeCapsLengthWithoutTrailingDash() {
+        String slug = SlugGenerator.normalize("a".repeat(59) + " bbbb");
+
+        assertThat(slug).isEqualTo("a".repeat(59));
+    }
+
+    @Test
+    void generateAppendsBase36Id() {
+        SlugGenerator generator = new SlugGenerator(1);
+
+        assertThat(generator.generate("Anna Kowalska")).matches("anna-kowalska-[0-9a-z]+");
+        assertThat(generator.generate("李小龍")).matches("wishlist-[0-9a-z]+");
+    }
+}
@@ -0,0 +1,92 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.dto.ItemDTO;
+import com.wishlist.backend.dto.WishlistDTO;
+import com.wishlist.backend.event.WishlistChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WishlistCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WishlistCache cache = new WishlistCache(100, Duration.ofMinutes(10), meterRegistry,
+            new RequestCoalescer(meterRegistry));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void loadsOnceAndServesLaterReadsFromTheCache() {
+        cache.get("anna", this::load);
+        cache.get("anna", this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats()).containsEntry("hits", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    void callersCannotChangeTheCachedEntry() {
+        WishlistDTO first = cache.get("anna", this::load);
+        first.setNote("changed");
+        first.getItems().get(0).setItemName("changed");
+        first.getItems().clear();
+
+        WishlistDTO second = cache.get("anna", this::load);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getNote()).isEqualTo("note");
+        assertThat(second.getItems()).extracting(ItemDTO::getItemName).containsExactly("Sledge");
+
+        second.getItems().add(new ItemDTO());
+        assertThat(cache.get("anna", this::load).getItems()).hasSize(1);
+    }
+
+    @Test
+    void changeEventInvalidatesTheEntry() {
+        cache.get("anna", this::load);
+        cache.onWishlistChanged(new WishlistChangedEvent(1L, "anna", WishlistChangedEvent.Type.UPDATED));
+        cache.get("anna", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void changeDuringLoadIsNotCached() {
+        cache.get("anna", slug -> {
+            WishlistDTO loaded = load(slug);
+            cache.invalidate(slug);
+            return loaded;
+        });
+
+        assertThat(cache.eTagIfPresent("anna")).isNull();
+    }
+
+    @Test
+    void eTagIfPresentDoesNotLoad() {
+        assertThat(cache.eTagIfPresent("anna")).isNull();
+        cache.get("anna", this::load);
+
+        assertThat(cache.eTagIfPresent("anna")).isEqualTo(ETags.forWishlist(1L, "2024-12-01T10:00"));
+        assertThat(loads).hasValue(1);
+    }
+
+    private WishlistDTO load(String slug) {
+        loads.incrementAndGet();
+        ItemDTO item = new ItemDTO();
+        item.setId(10L);
+        item.setItemName("Sledge");
+        item.setWishlistId(1L);
+
+        WishlistDTO dto = new WishlistDTO();
+        dto.setId(1L);
+        dto.setUniqueSlug(slug);
+        dto.setNote("note");
+        dto.setUpdatedAt("2024-12-01T10:00");
+        dto.setItems(new ArrayList<>(List.of(item)));
+        return dto;
+    }
+}
@@ -0,0 +1,174 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.event.HomeSnapshotUpdatedEvent;
+import com.wishlist.backend.event.WishlistChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WishlistEventBroadcasterTest {
+
+    private static final int QUEUE_CAPACITY = 3;
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    // Sender tasks are held back until the test runs them, so queues fill up like they would behind a slow client
+    private final List<Runnable> senderTasks = new ArrayList<>();
+    private MeterRegistry meterRegistry;
+    private WishlistEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new WishlistEventBroadcaster(QUEUE_CAPACITY, 2, meterRegistry, () -> {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            return emitter;
+        }, senderTasks::add);
+    }
+
+    @Test
+    void slugChannelHearsCommitsAndHomeChannelHearsSnapshotUpdates() {
+        RecordingEmitter slug = (RecordingEmitter) broadcaster.subscribe("anna");
+        RecordingEmitter home = (RecordingEmitter) broadcaster.subscribeAll();
+
+        broadcaster.onWishlistChanged(changed("anna"));
+        runSenders();
+        assertThat(slug.text()).contains(":connected", "event:wishlist-changed");
+        assertThat(home.text()).contains(":connected").doesNotContain("wishlist-changed");
+
+        broadcaster.onHomeSnapshotUpdated(new HomeSnapshotUpdatedEvent(changed("anna")));
+        runSenders();
+        assertThat(home.text()).contains("event:wishlist-changed");
+    }
+
+    @Test
+    void otherSlugsHearNothing() {
+        RecordingEmitter other = (RecordingEmitter) broadcaster.subscribe("ben");
+        broadcaster.onWishlistChanged(changed("anna"));
+        runSenders();
+
+        assertThat(other.text()).contains(":connected").doesNotContain("wishlist-changed");
+    }
+
+    @Test
+    void rejectsSubscribersOverTheCapWith503() {
+        broadcaster.subscribe("anna");
+        broadcaster.subscribeAll();
+
+        assertThatThrownBy(() -> broadcaster.subscribe("ben"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void dropsASubscriberWhoseQueueOverflows() {
+        RecordingEmitter slow = (RecordingEmitter) broadcaster.subscribeAll();
+        // "connected" already holds one slot
+        for (int i = 0; i < QUEUE_CAPACITY; i++) {
+            broadcaster.onHomeSnapshotUpdated(new HomeSnapshotUpdatedEvent(changed("anna")));
+        }
+
+        assertThat(slow.completed).isTrue();
+        assertThat(subscriberCount()).isZero();
+        assertThat(meterRegistry.get("app.sse.dropped").counter().count()).isEqualTo(1);
+        // The freed slot can be taken again
+        broadcaster.subscribeAll();
+        broadcaster.subscribeAll();
+    }
+
+    @Test
+    void heartbeatReachesEveryChannel() {
+        RecordingEmitter slug = (RecordingEmitter) broadcaster.subscribe("anna");
+        RecordingEmitter all = (RecordingEmitter) broadcaster.subscribeAll();
+        broadcaster.heartbeat();
+        runSenders();
+
+        assertThat(slug.text()).contains(":heartbeat");
+        assertThat(all.text()).contains(":heartbeat");
+    }
+
+    @Test
+    void removesSubscriberOnCompletionTimeoutAndError() {
+        RecordingEmitter completed = (RecordingEmitter) broadcaster.subscribe("anna");
+        RecordingEmitter timedOut = (RecordingEmitter) broadcaster.subscribe("anna");
+        assertThat(subscriberCount()).isEqualTo(2);
+
+        completed.onCompletion.run();
+        timedOut.onTimeout.run();
+        // Callbacks may fire more than once, e.g. completion after a timeout; the count must not go negative
+        timedOut.onCompletion.run();
+        assertThat(subscriberCount()).isZero();
+
+        RecordingEmitter failed = (RecordingEmitter) broadcaster.subscribeAll();
+        failed.onError.accept(new RuntimeException("broken pipe"));
+        assertThat(subscriberCount()).isZero();
+        broadcaster.onWishlistChanged(changed("anna"));
+        runSenders();
+        assertThat(completed.text()).doesNotContain("wishlist-changed");
+    }
+
+    private void runSenders() {
+        while (!senderTasks.isEmpty()) {
+            senderTasks.remove(0).run();
+        }
+    }
+
+    private double subscriberCount() {
+        return meterRegistry.get("app.sse.subscribers").gauge().value();
+    }
+
+    private static WishlistChangedEvent changed(String slug) {
+        return new WishlistChangedEvent(1L, slug, WishlistChangedEvent.Type.UPDATED);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final StringBuilder sent = new StringBuilder();
+        Runnable onCompletion;
+        Runnable onTimeout;
+        Consumer<Throwable> onError;
+        boolean completed;
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+            items.forEach(item -> sent.append(item.getData()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            onCompletion = callback;
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+            onTimeout = callback;
+        }
+
+        @Override
+        public void onError(Consumer<Throwable> callback) {
+            onError = callback;
+        }
+
+        String text() {
+            return sent.toString();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.dto.WishlistSummaryDTO;
+import com.wishlist.backend.event.HomeSnapshotUpdatedEvent;
+import com.wishlist.backend.event.WishlistChangedEvent;
+import com.wishlist.backend.model.User;
+import com.wishlist.backend.repository.WishlistViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WishlistHomeSnapshotTest {
+
+    private WishlistViewRepository wishlistViewRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private WishlistHomeSnapshot homeSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        wishlistViewRepository = mock(WishlistViewRepository.class);
+        when(wishlistViewRepository.findAllSummariesOrderByCategory()).thenReturn(List.of(
+                summary(1L, User.UserCategory.ADULT, 3),
+                summary(2L, User.UserCategory.KID, 1),
+                summary(3L, User.UserCategory.ADULT, 0)));
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        homeSnapshot = new WishlistHomeSnapshot(wishlistViewRepository, eventPublisher, Runnable::run);
+    }
+
+    @Test
+    void firstReadLoadsOncePartitionedByCategory() {
+        WishlistHomeSnapshot.Snapshot snapshot = homeSnapshot.get();
+        homeSnapshot.get();
+
+        assertThat(ids(snapshot.getCategory(User.UserCategory.ADULT))).containsExactly(1L, 3L);
+        assertThat(ids(snapshot.getCategory(User.UserCategory.KID))).containsExactly(2L);
+        assertThat(snapshot.getCounts()).containsEntry(User.UserCategory.ADULT, 2).containsEntry(User.UserCategory.KID, 1);
+        assertThat(ids(snapshot.getAll())).hasSize(3);
+        verify(wishlistViewRepository, times(1)).findAllSummariesOrderByCategory();
+    }
+
+    @Test
+    void changeReplacesOnlyThatWishlistAndMovesItBetweenCategories() {
+        WishlistHomeSnapshot.Snapshot before = homeSnapshot.get();
+        when(wishlistViewRepository.findSummariesByIds(any())).thenReturn(List.of(summary(1L, User.UserCategory.KID, 4)));
+
+        homeSnapshot.onWishlistChanged(new WishlistChangedEvent(1L, "one", WishlistChangedEvent.Type.UPDATED));
+        WishlistHomeSnapshot.Snapshot after = homeSnapshot.get();
+
+        assertThat(ids(after.getCategory(User.UserCategory.ADULT))).containsExactly(3L);
+        assertThat(ids(after.getCategory(User.UserCategory.KID))).containsExactly(1L, 2L);
+        assertThat(after.getCategory(User.UserCategory.KID).get(0).getItemCount()).isEqualTo(4);
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(after.getETag()).isNotEqualTo(before.getETag());
+        // Published snapshots never change underneath their readers
+        assertThat(ids(before.getCategory(User.UserCategory.ADULT))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void deletedWishlistIsDropped() {
+        homeSnapshot.get();
+        when(wishlistViewRepository.findSummariesByIds(any())).thenReturn(List.of());
+
+        homeSnapshot.onWishlistChanged(new WishlistChangedEvent(2L, "two", WishlistChangedEvent.Type.DELETED));
+
+        assertThat(homeSnapshot.get().getCounts()).containsEntry(User.UserCategory.KID, 0);
+        assertThat(ids(homeSnapshot.get().getAll())).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void homeListenersHearOfAChangeOnlyOnceTheSnapshotServesIt() {
+        homeSnapshot.get();
+        WishlistChangedEvent change = new WishlistChangedEvent(4L, "four", WishlistChangedEvent.Type.CREATED);
+        when(wishlistViewRepository.findSummariesByIds(any())).thenAnswer(invocation -> {
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+            return List.of(summary(4L, User.UserCategory.PET, 0));
+        });
+        doAnswer(invocation -> {
+            // The refetch a listener makes must already see the change
+            assertThat(ids(homeSnapshot.get().getAll())).contains(4L);
+            return null;
+        }).when(eventPublisher).publishEvent(any(Object.class));
+
+        homeSnapshot.onWishlistChanged(change);
+
+        verify(eventPublisher).publishEvent(new HomeSnapshotUpdatedEvent(change));
+    }
+
+    @Test
+    void untouchedPartitionsAreSharedWithThePreviousSnapshot() {
+        WishlistHomeSnapshot.Snapshot before = homeSnapshot.get();
+        when(wishlistViewRepository.findSummariesByIds(any())).thenReturn(List.of(summary(2L, User.UserCategory.KID, 5)));
+
+        homeSnapshot.onWishlistChanged(new WishlistChangedEvent(2L, "two", WishlistChangedEvent.Type.UPDATED));
+        WishlistHomeSnapshot.Snapshot after = homeSnapshot.get();
+
+        assertThat(after.getCategory(User.UserCategory.ADULT)).isSameAs(before.getCategory(User.UserCategory.ADULT));
+        assertThat(after.getCategory(User.UserCategory.KID)).isNotSameAs(before.getCategory(User.UserCategory.KID));
+    }
+
+    @Test
+    void rebuildPicksUpRowsWrittenWithoutEvents() {
+        homeSnapshot.get();
+        when(wishlistViewRepository.findAllSummariesOrderByCategory()).thenReturn(List.of(
+                summary(1L, User.UserCategory.ADULT, 3),
+                summary(4L, User.UserCategory.PET, 2)));
+
+        homeSnapshot.rebuild();
+
+        assertThat(ids(homeSnapshot.get().getAll())).containsExactly(1L, 4L);
+    }
+
+    private static WishlistSummaryDTO summary(Long id, User.UserCategory category, long itemCount) {
+        WishlistSummaryDTO summary = new WishlistSummaryDTO();
+        summary.setId(id);
+        summary.setOwnerName("Owner " + id);
+        summary.setUniqueSlug("owner-" + id);
+        summary.setCategory(category);
+        summary.setItemCount(itemCount);
+        return summary;
+    }
+
+    private static List<Long> ids(List<WishlistSummaryDTO> summaries) {
+        return summaries.stream().map(WishlistSummaryDTO::getId).toList();
+    }
+}
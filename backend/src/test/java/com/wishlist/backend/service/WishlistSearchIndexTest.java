@@ -0,0 +1,125 @@
+package com.wishlist.backend.service;
+
+import com.wishlist.backend.dto.WishlistSearchResultDTO;
+import com.wishlist.backend.event.WishlistChangedEvent;
+import com.wishlist.backend.model.User;
+import com.wishlist.backend.model.Wishlist;
+import com.wishlist.backend.model.WishlistItem;
+import com.wishlist.backend.repository.WishlistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WishlistSearchIndexTest {
+
+    private WishlistRepository wishlistRepository;
+    private WishlistSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        wishlistRepository = mock(WishlistRepository.class);
+        index = new WishlistSearchIndex(wishlistRepository, TransactionOperations.withoutTransaction(), Runnable::run);
+        when(wishlistRepository.findAllByOrderByCategoryAsc()).thenReturn(List.of(
+                wishlist(1L, "Anna Kowalska", "Books please", "Lego castle"),
+                wishlist(2L, "Zoë Brown", null, "Board game"),
+                wishlist(3L, "Joanna Smith", null, "Anna Karenina")));
+        index.rebuild();
+    }
+
+    @Test
+    void trigramTermsMatchInsideWords() {
+        assertThat(ids(index.search("owals", 10))).containsExactly(1L);
+        assertThat(ids(index.search("castl", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void shortTermsMatchTokenPrefixes() {
+        assertThat(ids(index.search("zo", 10))).containsExactly(2L);
+        assertThat(ids(index.search("oa", 10))).isEmpty();
+    }
+
+    @Test
+    void everyTermHasToMatch() {
+        assertThat(ids(index.search("anna lego", 10))).containsExactly(1L);
+        assertThat(ids(index.search("anna chess", 10))).isEmpty();
+    }
+
+    @Test
+    void accentsAndCaseAreIgnored() {
+        assertThat(ids(index.search("ZOE", 10))).containsExactly(2L);
+    }
+
+    @Test
+    void ownerMatchesRankAboveItemMatches() {
+        List<WishlistSearchResultDTO> results = index.search("anna", 10);
+
+        assertThat(ids(results)).containsExactly(1L, 3L);
+        assertThat(results.get(1).getMatchedItems()).containsExactly("Anna Karenina");
+    }
+
+    @Test
+    void ownerNameSearchIgnoresNotesAndItems() {
+        assertThat(index.searchOwnerNames("anna")).containsExactly(1L, 3L);
+        assertThat(index.searchOwnerNames("lego")).isEmpty();
+        assertThat(index.searchOwnerNames("books")).isEmpty();
+    }
+
+    @Test
+    void ownerNameSearchMatchesShortSubstrings() {
+        assertThat(index.searchOwnerNames("nn")).containsExactly(1L, 3L);
+        assertThat(index.searchOwnerNames("")).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void updateEventReindexesTheWishlist() {
+        when(wishlistRepository.findWithItemsByIdIn(List.of(2L)))
+                .thenReturn(List.of(wishlist(2L, "Zoë Brown", null, "Telescope")));
+
+        index.onWishlistChanged(new WishlistChangedEvent(2L, "zoe", WishlistChangedEvent.Type.UPDATED));
+
+        assertThat(ids(index.search("telescope", 10))).containsExactly(2L);
+        assertThat(ids(index.search("board", 10))).isEmpty();
+    }
+
+    @Test
+    void deleteEventRemovesTheWishlist() {
+        index.onWishlistChanged(new WishlistChangedEvent(1L, "anna", WishlistChangedEvent.Type.DELETED));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(ids(index.search("kowalska", 10))).isEmpty();
+        assertThat(index.searchOwnerNames("anna")).containsExactly(3L);
+    }
+
+    @Test
+    void updateEventForAMissingWishlistRemovesIt() {
+        when(wishlistRepository.findWithItemsByIdIn(List.of(3L))).thenReturn(List.of());
+
+        index.onWishlistChanged(new WishlistChangedEvent(3L, "joanna", WishlistChangedEvent.Type.UPDATED));
+
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static List<Long> ids(List<WishlistSearchResultDTO> results) {
+        return results.stream().map(WishlistSearchResultDTO::getId).toList();
+    }
+
+    private static Wishlist wishlist(Long id, String owner, String note, String itemName) {
+        Wishlist wishlist = new Wishlist();
+        wishlist.setId(id);
+        wishlist.setOwnerName(owner);
+        wishlist.setUniqueSlug(owner.toLowerCase().replace(' ', '-'));
+        wishlist.setNote(note);
+        wishlist.setCategory(User.UserCategory.ADULT);
+        WishlistItem item = new WishlistItem();
+        item.setItemName(itemName);
+        item.setWishlist(wishlist);
+        wishlist.getItems().add(item);
+        return wishlist;
+    }
+}
@@ -15,22 +15,11 @@ export default function WishlistCard({ wishlist }) {
       <h3 className="text-lg md:text-xl font-bold mb-2 md:mb-3 text-gray-900 break-words">
         {wishlist.ownerName}
       </h3>
-      <div className="space-y-1">
-        {wishlist.items && wishlist.items.length > 0 ? (
-          wishlist.items.slice(0, 3).map((item) => (
-            <p key={item.id} className="text-xs md:text-sm text-gray-600 truncate">
-              • {item.itemName}
-            </p>
-          ))
-        ) : (
-          <p className="text-xs md:text-sm text-gray-400">No items yet</p>
-        )}
-        {wishlist.items && wishlist.items.length > 3 && (
-          <p className="text-xs md:text-sm text-gray-500 font-semibold">
-            +{wishlist.items.length - 3} more items
-          </p>
-        )}
-      </div>
+      <p className={`text-xs md:text-sm ${wishlist.itemCount > 0 ? 'text-gray-600' : 'text-gray-400'}`}>
+        {wishlist.itemCount > 0
+          ? `${wishlist.itemCount} ${wishlist.itemCount === 1 ? 'item' : 'items'}`
+          : 'No items yet'}
+      </p>
     </div>
   );
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
-import { useState, useEffect } from 'react';
+import { useState, useEffect, useRef } from 'react';
 import { useNavigate } from 'react-router-dom';
-import { wishlistAPI, settingsAPI } from '../services/api';
+import { wishlistAPI, settingsAPI, liveAPI } from '../services/api';
 import WishlistCard from '../components/WishlistCard';
 import SearchBar from '../components/SearchBar';
 import LoadingSpinner from '../components/LoadingSpinner';
@@ -14,6 +14,7 @@ export default function HomePage() {
   const [error, setError] = useState(null);
   const [showScrollTop, setShowScrollTop] = useState(false);
   const [headerName, setHeaderName] = useState('Christmas Wishlist');
+  const searchTermRef = useRef('');
 
   useEffect(() => {
     fetchWishlists();
@@ -24,7 +25,14 @@ export default function HomePage() {
     };
     
     window.addEventListener('scroll', handleScroll);
-    return () => window.removeEventListener('scroll', handleScroll);
+
+    // Refresh in the background whenever any wishlist changes
+    const unsubscribe = liveAPI.subscribeAll(() => fetchWishlists(true));
+
+    return () => {
+      window.removeEventListener('scroll', handleScroll);
+      unsubscribe();
+    };
   }, []);
 
   const loadHeaderName = async () => {
@@ -36,30 +44,33 @@ export default function HomePage() {
     }
   };
 
-  const fetchWishlists = async () => {
+  const fetchWishlists = async (silent = false) => {
     try {
-      setLoading(true);
-      const response = await wishlistAPI.getAll();
+      if (!silent) setLoading(true);
+      const response = await wishlistAPI.getSummaries();
       setWishlists(response.data);
-      setFilteredWishlists(response.data);
+      setFilteredWishlists(filterWishlists(response.data, searchTermRef.current));
       setError(null);
     } catch (err) {
-      setError('Failed to load wishlists');
+      if (!silent) setError('Failed to load wishlists');
       console.error(err);
     } finally {
-      setLoading(false);
+      if (!silent) setLoading(false);
     }
   };
 
-  const handleSearch = (searchTerm) => {
+  const filterWishlists = (list, searchTerm) => {
     if (!searchTerm.trim()) {
-      setFilteredWishlists(wishlists);
-    } else {
-      const filtered = wishlists.filter((wishlist) =>
-        wishlist.ownerName.toLowerCase().includes(searchTerm.toLowerCase())
-      );
-      setFilteredWishlists(filtered);
+      return list;
     }
+    return list.filter((wishlist) =>
+      wishlist.ownerName.toLowerCase().includes(searchTerm.toLowerCase())
+    );
+  };
+
+  const handleSearch = (searchTerm) => {
+    searchTermRef.current = searchTerm;
+    setFilteredWishlists(filterWishlists(wishlists, searchTerm));
   };
 
   const scrollToTop = () => {
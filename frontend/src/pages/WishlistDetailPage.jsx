@@ -1,6 +1,6 @@
 import { useState, useEffect } from 'react';
 import { useParams, useNavigate } from 'react-router-dom';
-import { wishlistAPI, itemAPI } from '../services/api';
+import { wishlistAPI, itemAPI, liveAPI } from '../services/api';
 
 export default function WishlistDetailPage() {
   const { slug } = useParams();
@@ -22,20 +22,31 @@ export default function WishlistDetailPage() {
 
   useEffect(() => {
     fetchWishlist();
+
+    // Pick up changes made by other family members without reloading the page
+    const unsubscribe = liveAPI.subscribe(slug, (change) => {
+      if (change.type === 'DELETED') {
+        setWishlist(null);
+        setError('This wishlist was deleted');
+      } else {
+        fetchWishlist(true);
+      }
+    });
+    return unsubscribe;
   }, [slug]);
 
-  const fetchWishlist = async () => {
+  const fetchWishlist = async (silent = false) => {
     try {
-      setLoading(true);
+      if (!silent) setLoading(true);
       const response = await wishlistAPI.getBySlug(slug);
       setWishlist(response.data);
-      setNote(response.data.note || '');
+      if (!silent) setNote(response.data.note || '');
       setError(null);
     } catch (err) {
       setError('Wishlist not found');
       console.error(err);
     } finally {
-      setLoading(false);
+      if (!silent) setLoading(false);
     }
   };
 
@@ -11,10 +11,10 @@ const api = axios.create({
 
 api.interceptors.request.use(
   (config) => {
-    // Retrieve the encoded credentials saved during login
+    // Signed token issued by /auth/login
     const token = sessionStorage.getItem('auth_token');
     if (token) {
-      config.headers['Authorization'] = `Basic ${token}`;
+      config.headers['Authorization'] = `Bearer ${token}`;
     }
     return config;
   },
@@ -23,18 +23,26 @@ api.interceptors.request.use(
   }
 );
 
+// An expired or rejected token ends the session
+api.interceptors.response.use(
+  (response) => response,
+  (error) => {
+    if (error.response?.status === 401 && sessionStorage.getItem('auth_token')) {
+      authAPI.logout();
+    }
+    return Promise.reject(error);
+  }
+);
+
 export const authAPI = {
   login: async (username, password) => {
-    const token = btoa(`${username}:${password}`);
     try {
-      await api.get('/users', {
-        headers: { Authorization: `Basic ${token}` }
-      });
-      
-      // If successful, save state
+      const response = await api.post('/auth/login', { username, password });
+      const { token, roles } = response.data;
+
       sessionStorage.setItem('auth_token', token);
       sessionStorage.setItem('isAuthenticated', 'true');
-      if (username === 'admin') {
+      if (roles.includes('ROLE_ADMIN')) {
         sessionStorage.setItem('isAdmin', 'true');
       }
       return true;
@@ -59,6 +67,7 @@ export const userAPI = {
 
 export const wishlistAPI = {
   getAll: () => api.get('/wishlists'),
+  getSummaries: () => api.get('/wishlists', { params: { view: 'summary' } }),
   getBySlug: (slug) => api.get(`/wishlists/${slug}`),
   getByCategory: (category) => api.get(`/wishlists/category/${category}`),
   search: (name) => api.get('/wishlists/search', { params: { name } }),
@@ -78,4 +87,68 @@ export const settingsAPI = {
   updateHeader: (value) => api.put('/settings/header', { value }),
 };
 
+// Live updates over Server-Sent Events. EventSource cannot send the Authorization header,
+// so the stream is read with fetch. Reconnects with backoff; returns a function that closes it.
+const subscribe = (path, onChange) => {
+  const controller = new AbortController();
+  let retryDelay = 1000;
+
+  const connect = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const token = sessionStorage.getItem('auth_token');
+        const response = await fetch(`${API_BASE_URL}${path}`, {
+          headers: {
+            Accept: 'text/event-stream',
+            ...(token ? { Authorization: `Bearer ${token}` } : {}),
+          },
+          signal: controller.signal,
+        });
+        if (response.status === 401) {
+          // Token expired; the next API call sends the user back to the login page
+          return;
+        }
+        if (!response.ok || !response.body) {
+          throw new Error(`Event stream failed with status ${response.status}`);
+        }
+        retryDelay = 1000;
+
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = '';
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += value;
+          let boundary;
+          while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+            const block = buffer.slice(0, boundary);
+            buffer = buffer.slice(boundary + 2);
+            const data = block
+              .split('\n')
+              .filter((line) => line.startsWith('data:'))
+              .map((line) => line.slice(5).trim())
+              .join('\n');
+            if (data) {
+              onChange(JSON.parse(data));
+            }
+          }
+        }
+      } catch (error) {
+        if (controller.signal.aborted) return;
+        console.warn('Live updates disconnected, retrying', error);
+      }
+      await new Promise((resolve) => setTimeout(resolve, retryDelay));
+      retryDelay = Math.min(retryDelay * 2, 30000);
+    }
+  };
+
+  connect();
+  return () => controller.abort();
+};
+
+export const liveAPI = {
+  subscribeAll: (onChange) => subscribe('/wishlists/events', onChange),
+  subscribe: (slug, onChange) => subscribe(`/wishlists/${slug}/events`, onChange),
+};
+
 export default api;
\ No newline at end of file